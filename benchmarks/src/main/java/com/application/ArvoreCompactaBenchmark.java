@@ -0,0 +1,110 @@
+package com.application;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ArvoreAVL (um objeto No por chave) contra ArvoreAVLCompacta (vetores paralelos).
+//
+// Memória: construirObjetos e construirCompacta inserem as n chaves em uma árvore vazia.
+// A compacta é criada com capacidade n, então nada além dos próprios nós é alocado nos
+// dois casos, e gc.alloc.rate.norm dividido por n é o tamanho de cada chave na memória.
+// Os campos gc.count e gc.time mostram o custo de coleta de cada estrutura.
+//
+// Vazão: buscarObjetos e buscarCompacta fazem buscas aleatórias (metade presentes) em
+// árvores já montadas; os resultados são por busca.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ArvoreCompactaBenchmark {
+    private static final int CONSULTAS = 4096;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private int[] chaves;
+    private int[] buscadas;
+    private ArvoreAVL objetos;
+    private ArvoreAVLCompacta compacta;
+
+    @Setup
+    public void preparar() {
+        // Chaves pares, para que as buscas ímpares falhem
+        chaves = GeradorDados.chaves("aleatoria", tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            chaves[i] = 2 * chaves[i];
+        }
+
+        objetos = new ArvoreAVL();
+        compacta = new ArvoreAVLCompacta(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            objetos.inserir(chaves[i]);
+            compacta.inserir(chaves[i]);
+        }
+
+        Random aleatorio = new Random(GeradorDados.SEMENTE);
+        buscadas = new int[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            buscadas[i] = aleatorio.nextInt(2 * tamanho);
+        }
+    }
+
+    @Benchmark
+    public Object construirObjetos() {
+        ArvoreAVL arvore = new ArvoreAVL();
+        for (int i = 0; i < chaves.length; i++) {
+            arvore.inserir(chaves[i]);
+        }
+        return arvore;
+    }
+
+    @Benchmark
+    public Object construirCompacta() {
+        ArvoreAVLCompacta arvore = new ArvoreAVLCompacta(chaves.length);
+        for (int i = 0; i < chaves.length; i++) {
+            arvore.inserir(chaves[i]);
+        }
+        return arvore;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONSULTAS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int buscarObjetos() {
+        int encontradas = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            if (objetos.contem(buscadas[i])) {
+                encontradas++;
+            }
+        }
+        return encontradas;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONSULTAS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int buscarCompacta() {
+        int encontradas = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            if (compacta.contem(buscadas[i])) {
+                encontradas++;
+            }
+        }
+        return encontradas;
+    }
+}
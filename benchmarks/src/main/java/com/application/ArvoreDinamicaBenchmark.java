@@ -0,0 +1,103 @@
+package com.application;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Custo de atualizar a árvore geradora mínima depois da inserção de uma aresta:
+// a ArvoreGeradoraDinamica (semeada com o Prim) contra reconstruir o grafo com a
+// aresta nova e rodar o Prim de novo. Os dois resultados são por atualização.
+//
+// Cada chamada de dinamica() aplica um lote de atualizações a uma árvore recém-semeada
+// com o resultado do Prim, então mede a mesma situação que o reconstruirPrim (arestas novas
+// sobre a árvore original): a aresta entra, com corte e ligação, sempre que é mais leve que
+// a mais pesada do ciclo, em vez de quase sempre ser rejeitada por uma árvore já atualizada.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArvoreDinamicaBenchmark {
+    private static final int ATUALIZACOES = 1024;  // Atualizações por chamada de dinamica()
+    private static final int LOTES = 64;           // Lotes distintos, usados em rodízio
+
+    @Param({"10000", "100000"})
+    public int vertices;
+
+    private GrafoCSR grafo;
+    private Prim prim;
+    private ArvoreGeradoraDinamica dinamica;
+    private int[] atualizacoes;   // Triplas u, v, peso (LOTES x ATUALIZACOES)
+    private int lote;             // Lote usado pela próxima chamada de dinamica()
+    private int proxima;          // Tripla usada pela próxima chamada de reconstruirPrim()
+
+    @Setup
+    public void preparar() {
+        grafo = GeradorDados.grafoEsparso(vertices, 4);
+        prim = new Prim(grafo, new MinHeapPrimitiva(vertices), true);
+        prim.calcular();
+
+        Random aleatorio = new Random(GeradorDados.SEMENTE);
+        atualizacoes = new int[3 * LOTES * ATUALIZACOES];
+        for (int i = 0; i < atualizacoes.length; i = i + 3) {
+            atualizacoes[i] = aleatorio.nextInt(vertices);
+            atualizacoes[i + 1] = aleatorio.nextInt(vertices);
+            atualizacoes[i + 2] = 1 + aleatorio.nextInt(1000);
+        }
+    }
+
+    // Fora da medição: a árvore volta ao resultado do Prim antes de cada chamada e o
+    // próximo lote é escolhido. Sem isso, a partir da segunda chamada as mesmas arestas
+    // já estariam na árvore (ou perderiam para ela) e nenhuma atualização a mudaria.
+    @Setup(Level.Invocation)
+    public void semear() {
+        dinamica = new ArvoreGeradoraDinamica(prim);
+        lote = (lote + 1) % LOTES;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ATUALIZACOES)
+    public long dinamica() {
+        int inicio = 3 * ATUALIZACOES * lote;
+        int fim = inicio + 3 * ATUALIZACOES;
+        for (int i = inicio; i < fim; i = i + 3) {
+            dinamica.inserirAresta(atualizacoes[i], atualizacoes[i + 1], atualizacoes[i + 2]);
+        }
+        return dinamica.obterPesoTotal();
+    }
+
+    // Uma atualização por chamada: o grafo base mais a aresta nova, e o Prim do zero
+    @Benchmark
+    public int[] reconstruirPrim() {
+        int u = atualizacoes[proxima];
+        int v = atualizacoes[proxima + 1];
+        int p = atualizacoes[proxima + 2];
+        proxima = (proxima + 3) % atualizacoes.length;
+
+        ConstrutorGrafo construtor = new ConstrutorGrafo(vertices, grafo.numArestas() + 2);
+        for (int x = 0; x < vertices; x++) {
+            for (int i = grafo.inicio(x); i < grafo.fim(x); i++) {
+                construtor.adicionarAresta(x, grafo.destino(i), grafo.peso(i));
+            }
+        }
+        construtor.adicionarArestaNaoDirecionada(u, v, p);
+
+        Prim novo = new Prim(construtor.construir(), new MinHeapPrimitiva(vertices), true);
+        novo.calcular();
+        return novo.obterPais();
+    }
+}
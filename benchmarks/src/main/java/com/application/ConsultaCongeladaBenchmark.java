@@ -0,0 +1,91 @@
+package com.application;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Buscas em uma ArvoreAVL (objetos No ligados por ponteiros) contra a mesma árvore
+// congelada em uma ArvoreEytzinger, com buscas uma a uma e em lote.
+// Metade das chaves buscadas existe; o resultado é por busca.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConsultaCongeladaBenchmark {
+    private static final int CONSULTAS = 65536;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int tamanho;
+
+    private ArvoreAVL arvore;
+    private ArvoreEytzinger congelada;
+    private int[] consultas;
+    private boolean[] resultado;
+
+    @Setup
+    public void preparar() {
+        // Chaves pares: as ímpares buscadas não existem
+        int[] chaves = GeradorDados.chaves("aleatoria", tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            chaves[i] = 2 * chaves[i];
+        }
+        // Inserção uma a uma, para os nós ficarem espalhados pelo heap como em uso real
+        arvore = new ArvoreAVL();
+        for (int i = 0; i < tamanho; i++) {
+            arvore.inserir(chaves[i]);
+        }
+        congelada = arvore.congelar();
+
+        Random aleatorio = new Random(7);
+        consultas = new int[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            consultas[i] = aleatorio.nextInt(2 * tamanho);
+        }
+        resultado = new boolean[CONSULTAS];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONSULTAS)
+    public int ponteiros() {
+        int encontradas = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            if (arvore.contem(consultas[i])) {
+                encontradas++;
+            }
+        }
+        return encontradas;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONSULTAS)
+    public int eytzinger() {
+        int encontradas = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            if (congelada.contem(consultas[i])) {
+                encontradas++;
+            }
+        }
+        return encontradas;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONSULTAS)
+    public boolean[] eytzingerLote() {
+        congelada.contemLote(consultas, CONSULTAS, resultado);
+        return resultado;
+    }
+}
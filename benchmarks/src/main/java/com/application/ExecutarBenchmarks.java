@@ -0,0 +1,27 @@
+package com.application;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Ponto de entrada do benchmarks.jar.
+// Aceita as mesmas opções de linha de comando do JMH, mas sempre liga o profiler de GC,
+// para que toda execução também informe a taxa de alocação (gc.alloc.rate.norm).
+public class ExecutarBenchmarks {
+    public static void main(String[] args) throws RunnerException {
+        try {
+            CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+            Options opcoes = new OptionsBuilder()
+                    .parent(linhaDeComando)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            new Runner(opcoes).run();
+        } catch (CommandLineOptionException e) {
+            System.out.println("Erro nas opcoes: " + e.getMessage());
+        }
+    }
+}
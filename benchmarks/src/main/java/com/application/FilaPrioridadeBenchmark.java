@@ -0,0 +1,100 @@
+package com.application;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Misturas de operações sobre as implementações de FilaPrioridade.
+//   insercaoExtracao: insere n chaves aleatórias e extrai todas
+//   padraoDijkstra:   a cada extração faz algumas diminuições de chave com valores
+//                     nunca menores que a última extraída (válido também para HeapRadix)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilaPrioridadeBenchmark {
+    private static final int DIMINUICOES_POR_EXTRACAO = 4;
+
+    @Param({"MinHeap", "MinHeapPrimitiva", "HeapDAria", "HeapPairing", "HeapRadix"})
+    public String fila;
+
+    @Param({"1000", "100000", "1000000"})
+    public int tamanho;
+
+    private int[] chavesIniciais;   // Chave inicial de cada vértice
+    private int[] alvos;            // Vértices sorteados para diminuirChave
+    private int[] incrementos;      // Distância acima da última extraída
+    private int[] chaves;           // Chave atual de cada vértice durante a mistura
+
+    @Setup
+    public void preparar() {
+        Random aleatorio = new Random(GeradorDados.SEMENTE);
+        chavesIniciais = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            chavesIniciais[i] = 1 + aleatorio.nextInt(1 << 30);
+        }
+
+        int total = tamanho * DIMINUICOES_POR_EXTRACAO;
+        alvos = new int[total];
+        incrementos = new int[total];
+        for (int i = 0; i < total; i++) {
+            alvos[i] = aleatorio.nextInt(tamanho);
+            incrementos[i] = aleatorio.nextInt(1000);
+        }
+        chaves = new int[tamanho];
+    }
+
+    @Benchmark
+    public int insercaoExtracao() {
+        FilaPrioridade heap = GeradorDados.fila(fila, tamanho);
+        for (int v = 0; v < tamanho; v++) {
+            heap.inserir(v, chavesIniciais[v]);
+        }
+
+        int soma = 0;
+        while (!heap.estaVazio()) {
+            soma = soma + heap.extrairMinimo();
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public int padraoDijkstra() {
+        FilaPrioridade heap = GeradorDados.fila(fila, tamanho);
+        for (int v = 0; v < tamanho; v++) {
+            chaves[v] = chavesIniciais[v];
+            heap.inserir(v, chaves[v]);
+        }
+
+        int soma = 0;
+        int k = 0;
+        while (!heap.estaVazio()) {
+            int u = heap.extrairMinimo();
+            soma = soma + u;
+
+            for (int d = 0; d < DIMINUICOES_POR_EXTRACAO; d++) {
+                int v = alvos[k];
+                int novaChave = chaves[u] + incrementos[k];
+                k++;
+                if (heap.contem(v) && novaChave < chaves[v]) {
+                    chaves[v] = novaChave;
+                    heap.diminuirChave(v, novaChave);
+                }
+            }
+        }
+        return soma;
+    }
+}
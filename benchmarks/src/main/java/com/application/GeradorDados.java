@@ -0,0 +1,114 @@
+package com.application;
+
+import java.util.Random;
+
+// Geração determinística (semente fixa) das entradas usadas pelos benchmarks,
+// para que execuções diferentes meçam exatamente os mesmos dados.
+class GeradorDados {
+    static final long SEMENTE = 42L;
+
+    // Sequência de chaves na ordem pedida: "sequencial", "aleatoria" ou "zigzag"
+    static int[] chaves(String ordem, int n) {
+        int[] chaves = new int[n];
+        if (ordem.equals("sequencial")) {
+            for (int i = 0; i < n; i++) {
+                chaves[i] = i;
+            }
+        } else if (ordem.equals("zigzag")) {
+            // Alterna entre o menor e o maior restante: 0, n-1, 1, n-2, ...
+            int baixo = 0;
+            int alto = n - 1;
+            for (int i = 0; i < n; i++) {
+                if (i % 2 == 0) {
+                    chaves[i] = baixo;
+                    baixo++;
+                } else {
+                    chaves[i] = alto;
+                    alto--;
+                }
+            }
+        } else if (ordem.equals("aleatoria")) {
+            // Permutação aleatória de 0..n-1 (Fisher-Yates)
+            Random aleatorio = new Random(SEMENTE);
+            for (int i = 0; i < n; i++) {
+                chaves[i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = aleatorio.nextInt(i + 1);
+                int temp = chaves[i];
+                chaves[i] = chaves[j];
+                chaves[j] = temp;
+            }
+        } else {
+            throw new IllegalArgumentException("Ordem desconhecida: " + ordem);
+        }
+        return chaves;
+    }
+
+    // Grafo completo não direcionado (o caso da matriz de adjacência densa)
+    static GrafoCSR grafoDenso(int n) {
+        Random aleatorio = new Random(SEMENTE);
+        ConstrutorGrafo construtor = new ConstrutorGrafo(n, n * (n - 1) + 1);
+        for (int u = 0; u < n; u++) {
+            for (int v = u + 1; v < n; v++) {
+                construtor.adicionarArestaNaoDirecionada(u, v, 1 + aleatorio.nextInt(1000));
+            }
+        }
+        return construtor.construir();
+    }
+
+    // Grafo esparso conexo não direcionado com grau médio aproximado informado:
+    // um caminho 0-1-...-(n-1) garante a conexidade e o resto das arestas é aleatório
+    static GrafoCSR grafoEsparso(int n, int grauMedio) {
+        Random aleatorio = new Random(SEMENTE);
+        int arestas = n * grauMedio / 2;
+        ConstrutorGrafo construtor = new ConstrutorGrafo(n, 2 * arestas + 2 * n);
+        for (int v = 1; v < n; v++) {
+            construtor.adicionarArestaNaoDirecionada(v - 1, v, 1 + aleatorio.nextInt(1000));
+        }
+        for (int i = n - 1; i < arestas; i++) {
+            int u = aleatorio.nextInt(n);
+            int v = aleatorio.nextInt(n);
+            if (u != v) {
+                construtor.adicionarArestaNaoDirecionada(u, v, 1 + aleatorio.nextInt(1000));
+            }
+        }
+        return construtor.construir();
+    }
+
+    // Grade lado x lado não direcionada (cada vértice ligado aos vizinhos de cima,
+    // baixo, esquerda e direita): a fronteira do Prim fica na ordem de lado, não de V
+    static GrafoCSR grafoGrade(int lado) {
+        Random aleatorio = new Random(SEMENTE);
+        int n = lado * lado;
+        ConstrutorGrafo construtor = new ConstrutorGrafo(n, 4 * n);
+        for (int linha = 0; linha < lado; linha++) {
+            for (int coluna = 0; coluna < lado; coluna++) {
+                int v = linha * lado + coluna;
+                if (coluna + 1 < lado) {
+                    construtor.adicionarArestaNaoDirecionada(v, v + 1, 1 + aleatorio.nextInt(1000));
+                }
+                if (linha + 1 < lado) {
+                    construtor.adicionarArestaNaoDirecionada(v, v + lado, 1 + aleatorio.nextInt(1000));
+                }
+            }
+        }
+        return construtor.construir();
+    }
+
+    // Cria a lista de prioridade pelo nome da classe
+    static FilaPrioridade fila(String tipo, int capacidade) {
+        if (tipo.equals("MinHeap")) {
+            return new MinHeap(capacidade);
+        } else if (tipo.equals("MinHeapPrimitiva")) {
+            return new MinHeapPrimitiva(capacidade);
+        } else if (tipo.equals("HeapDAria")) {
+            return new HeapDAria(capacidade, 4);
+        } else if (tipo.equals("HeapPairing")) {
+            return new HeapPairing(capacidade);
+        } else if (tipo.equals("HeapRadix")) {
+            return new HeapRadix(capacidade);
+        }
+        throw new IllegalArgumentException("Fila desconhecida: " + tipo);
+    }
+}
@@ -0,0 +1,49 @@
+package com.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Inserção de n chaves em uma ArvoreAVL vazia, para fluxos sequenciais
+// (pior caso de rotações), aleatórios e em zigue-zague.
+// A árvore é criada no modo silencioso, então só a inserção em si é medida.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InsercaoAVLBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int tamanho;
+
+    @Param({"sequencial", "aleatoria", "zigzag"})
+    public String ordem;
+
+    private int[] chaves;
+
+    @Setup
+    public void preparar() {
+        chaves = GeradorDados.chaves(ordem, tamanho);
+    }
+
+    @Benchmark
+    public Object inserir() {
+        ArvoreAVL arvore = new ArvoreAVL();
+        for (int i = 0; i < chaves.length; i++) {
+            arvore.inserir(chaves[i]);
+        }
+        return arvore;
+    }
+}
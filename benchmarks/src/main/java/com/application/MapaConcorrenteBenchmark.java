@@ -0,0 +1,102 @@
+package com.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Vazão de leituras com um escritor concorrente: MapaAVLConcorrente (leituras sem trava)
+// contra uma ArvoreAVL protegida por uma única trava global.
+// Cada grupo roda 7 leitores e 1 escritor; para medir a escala com o número de núcleos
+// troque a distribuição com -tg (por exemplo -tg 15,1 ou -tg 31,1).
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapaConcorrenteBenchmark {
+
+    @Param({"1000000"})
+    public int tamanho;
+
+    private MapaAVLConcorrente<Integer> mapa;
+    private ArvoreAVL arvoreTravada;
+    private final Object travaGlobal = new Object();
+
+    @Setup
+    public void preparar() {
+        mapa = new MapaAVLConcorrente<Integer>();
+        arvoreTravada = new ArvoreAVL();
+        int[] chaves = GeradorDados.chaves("aleatoria", tamanho);
+        for (int i = 0; i < tamanho; i = i + 2) {
+            mapa.inserir(chaves[i], chaves[i]);
+            arvoreTravada.inserir(chaves[i]);
+        }
+    }
+
+    // Gerador xorshift por thread, para não compartilhar estado entre leitores
+    @State(Scope.Thread)
+    public static class Sorteio {
+        private int estado = (int) System.nanoTime() | 1;
+
+        int proxima(int limite) {
+            estado ^= estado << 13;
+            estado ^= estado >>> 17;
+            estado ^= estado << 5;
+            return (estado & Integer.MAX_VALUE) % limite;
+        }
+    }
+
+    @Benchmark
+    @Group("copiaNaEscrita")
+    @GroupThreads(7)
+    public boolean copiaNaEscritaLeitura(Sorteio sorteio) {
+        return mapa.contem(sorteio.proxima(tamanho));
+    }
+
+    @Benchmark
+    @Group("copiaNaEscrita")
+    @GroupThreads(1)
+    public Object copiaNaEscritaEscrita(Sorteio sorteio) {
+        int chave = sorteio.proxima(tamanho);
+        if (mapa.remover(chave) == null) {
+            return mapa.inserir(chave, chave);
+        }
+        return null;
+    }
+
+    @Benchmark
+    @Group("travaGlobal")
+    @GroupThreads(7)
+    public boolean travaGlobalLeitura(Sorteio sorteio) {
+        int chave = sorteio.proxima(tamanho);
+        synchronized (travaGlobal) {
+            return arvoreTravada.contem(chave);
+        }
+    }
+
+    @Benchmark
+    @Group("travaGlobal")
+    @GroupThreads(1)
+    public boolean travaGlobalEscrita(Sorteio sorteio) {
+        int chave = sorteio.proxima(tamanho);
+        synchronized (travaGlobal) {
+            if (!arvoreTravada.remover(chave)) {
+                arvoreTravada.inserir(chave);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Comparação A/B do custo da instrumentação (Metricas) na ArvoreAVL e na MinHeap.
+// Metricas.ATIVO é lido uma vez por JVM, então cada lado roda em um fork próprio:
+// os métodos "Sem" usam a JVM padrão e os "Com" ligam -Dl4.metricas=true.
+// Com a instrumentação desligada o tempo deve ficar igual ao de antes dela existir.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class MetricasBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int tamanho;
+
+    private int[] chaves;
+
+    @Setup
+    public void preparar() {
+        chaves = GeradorDados.chaves("aleatoria", tamanho);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public Object avlSemMetricas() {
+        return inserirAVL();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dl4.metricas=true")
+    public Object avlComMetricas() {
+        return inserirAVL();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public long heapSemMetricas() {
+        return ordenarPelaHeap();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dl4.metricas=true")
+    public long heapComMetricas() {
+        return ordenarPelaHeap();
+    }
+
+    private ArvoreAVL inserirAVL() {
+        ArvoreAVL arvore = new ArvoreAVL();
+        for (int i = 0; i < chaves.length; i++) {
+            arvore.inserir(chaves[i]);
+        }
+        return arvore;
+    }
+
+    // Insere todos os índices com as chaves como prioridade, diminui metade delas
+    // e extrai tudo: exercita subida, descida, diminuição e extração
+    private long ordenarPelaHeap() {
+        int n = chaves.length;
+        MinHeap heap = new MinHeap(n);
+        for (int v = 0; v < n; v++) {
+            heap.inserir(v, chaves[v]);
+        }
+        for (int v = 0; v < n; v = v + 2) {
+            heap.diminuirChave(v, chaves[v] - tamanho);
+        }
+        long soma = 0;
+        while (!heap.estaVazio()) {
+            soma = soma + heap.extrairMinimo();
+        }
+        return soma;
+    }
+}
@@ -0,0 +1,53 @@
+package com.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Prim sobre grafos densos (grafo completo, o caso da matriz de adjacência)
+// e grafos esparsos aleatórios com grau médio 8, com cada lista de prioridade.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimBenchmark {
+
+    @Param({"denso", "esparso"})
+    public String tipoGrafo;
+
+    @Param({"1000", "4000"})
+    public int vertices;
+
+    @Param({"MinHeap", "MinHeapPrimitiva", "HeapDAria", "HeapPairing"})
+    public String fila;
+
+    private GrafoCSR grafo;
+
+    @Setup
+    public void preparar() {
+        if (tipoGrafo.equals("denso")) {
+            grafo = GeradorDados.grafoDenso(vertices);
+        } else {
+            grafo = GeradorDados.grafoEsparso(vertices, 8);
+        }
+    }
+
+    @Benchmark
+    public int[] prim() {
+        Prim prim = new Prim(grafo, GeradorDados.fila(fila, vertices));
+        prim.calcular();
+        return prim.obterPais();
+    }
+}
@@ -0,0 +1,63 @@
+package com.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Prim com a heap pré-populada (os V vértices com chave infinita) contra o Prim
+// que só insere os vértices alcançados. Na grade a fronteira tem ~lado vértices,
+// então a heap sob demanda fica com a ordem de sqrt(V) elementos em vez de V;
+// no grafo esparso aleatório a fronteira cresce mais, mas continua menor que V.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimSobDemandaBenchmark {
+
+    @Param({"grade", "esparso"})
+    public String tipoGrafo;
+
+    @Param({"100000", "1000000"})
+    public int vertices;
+
+    @Param({"MinHeapPrimitiva", "HeapDAria"})
+    public String fila;
+
+    private GrafoCSR grafo;
+
+    @Setup
+    public void preparar() {
+        if (tipoGrafo.equals("grade")) {
+            int lado = (int) Math.sqrt(vertices);
+            grafo = GeradorDados.grafoGrade(lado);
+        } else {
+            grafo = GeradorDados.grafoEsparso(vertices, 4);
+        }
+    }
+
+    @Benchmark
+    public int[] prePopulada() {
+        Prim prim = new Prim(grafo, GeradorDados.fila(fila, grafo.numVertices()), false);
+        prim.calcular();
+        return prim.obterPais();
+    }
+
+    @Benchmark
+    public int[] sobDemanda() {
+        Prim prim = new Prim(grafo, GeradorDados.fila(fila, grafo.numVertices()), true);
+        prim.calcular();
+        return prim.obterPais();
+    }
+}
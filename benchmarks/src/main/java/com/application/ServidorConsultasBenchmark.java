@@ -0,0 +1,69 @@
+package com.application;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Lotes de consultas origem -> destino aleatórias em uma grade, resolvidos pelo
+// ServidorConsultas com cada estratégia. Os resultados são por consulta; com o
+// profiler de GC, gc.alloc.rate.norm mostra que só a divisão do lote aloca.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServidorConsultasBenchmark {
+    private static final int CONSULTAS = 1024;
+
+    @Param({"300"})
+    public int lado;
+
+    @Param({"0", "1", "2"}) // DIJKSTRA, BIDIRECIONAL, ALT
+    public int estrategia;
+
+    private ServidorConsultas servidor;
+    private int[] origens;
+    private int[] destinos;
+    private int[] resultado;
+
+    @Setup
+    public void preparar() {
+        GrafoCSR grafo = GeradorDados.grafoGrade(lado);
+        servidor = new ServidorConsultas(grafo, estrategia);
+
+        Random aleatorio = new Random(GeradorDados.SEMENTE);
+        origens = new int[CONSULTAS];
+        destinos = new int[CONSULTAS];
+        resultado = new int[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            origens[i] = aleatorio.nextInt(grafo.numVertices());
+            destinos[i] = aleatorio.nextInt(grafo.numVertices());
+        }
+    }
+
+    @TearDown
+    public void encerrar() {
+        servidor.fechar();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONSULTAS)
+    public int[] lote() {
+        servidor.resolver(origens, destinos, resultado);
+        return resultado;
+    }
+}
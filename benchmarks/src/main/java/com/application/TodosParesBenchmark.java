@@ -0,0 +1,54 @@
+package com.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Distâncias entre todos os pares em grafos densos (grafo completo):
+// Floyd–Warshall em blocos e paralelo contra V execuções do Dijkstra.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodosParesBenchmark {
+
+    @Param({"500", "1000", "2000"})
+    public int vertices;
+
+    private GrafoCSR grafo;
+
+    @Setup
+    public void preparar() {
+        grafo = GeradorDados.grafoDenso(vertices);
+    }
+
+    @Benchmark
+    public int[][] floydWarshall() {
+        FloydWarshall floyd = new FloydWarshall(grafo);
+        floyd.calcular();
+        return floyd.obterDistancias();
+    }
+
+    @Benchmark
+    public int dijkstraPorOrigem() {
+        Dijkstra dijkstra = new Dijkstra(grafo, new MinHeapPrimitiva(vertices));
+        int soma = 0;
+        for (int origem = 0; origem < vertices; origem++) {
+            dijkstra.calcular(origem);
+            soma = soma + dijkstra.obterDistancias()[vertices - 1];
+        }
+        return soma;
+    }
+}
@@ -0,0 +1,328 @@
+package com.application;
+
+import java.util.Arrays;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+// Verificação cruzada das implementações otimizadas contra as de referência, em grafos
+// e sequências de operações aleatórias (semente fixa, então toda falha é reproduzível):
+//   caminhos - Dijkstra com parada antecipada, bidirecional, A* com marcos, hierarquia de
+//              contração, ServidorConsultas e Floyd–Warshall contra o Dijkstra completo;
+//   árvores  - Borůvka paralelo, floresta geradora mínima e ArvoreGeradoraDinamica contra o Prim;
+//   AVL      - estatísticas de ordem e intervalos da ArvoreAVL, ArvoreAVLCompacta e
+//              ArvoreEytzinger contra o TreeSet.
+// Uso: java -cp target/benchmarks.jar com.application.VerificacaoCruzada [rodadas]
+// Termina com código 1 se alguma comparação falhar.
+public class VerificacaoCruzada {
+    private static int verificacoes = 0;
+    private static int falhas = 0;
+
+    public static void main(String[] args) {
+        int rodadas = 200;
+        if (args.length > 0) {
+            rodadas = Integer.parseInt(args[0]);
+        }
+        Random aleatorio = new Random(GeradorDados.SEMENTE);
+
+        for (int r = 0; r < rodadas; r++) {
+            verificarCaminhos(aleatorio, r);
+            verificarArvores(aleatorio, r);
+            verificarAVL(aleatorio, r);
+        }
+        verificarCaminhosGrade();
+
+        System.out.println(verificacoes + " verificacoes, " + falhas + " falhas.");
+        if (falhas > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void conferir(boolean condicao, String descricao) {
+        verificacoes++;
+        if (!condicao) {
+            falhas++;
+            if (falhas <= 20) {
+                System.out.println("FALHA: " + descricao);
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Menores caminhos
+    // ------------------------------------------------------------------
+
+    // Grafo direcionado aleatório com pesos de 0 a pesoMaximo (pode ser desconexo)
+    private static GrafoCSR grafoDirecionado(Random aleatorio, int n, int m, int pesoMaximo) {
+        ConstrutorGrafo construtor = new ConstrutorGrafo(n, m + 1);
+        for (int i = 0; i < m; i++) {
+            construtor.adicionarAresta(aleatorio.nextInt(n), aleatorio.nextInt(n), aleatorio.nextInt(pesoMaximo + 1));
+        }
+        return construtor.construir();
+    }
+
+    private static void verificarCaminhos(Random aleatorio, int rodada) {
+        int n = 1 + aleatorio.nextInt(80);
+        int m = aleatorio.nextInt(4 * n + 1);
+        GrafoCSR grafo = grafoDirecionado(aleatorio, n, m, aleatorio.nextBoolean() ? 10 : 1000);
+        compararCaminhos(grafo, aleatorio, "rodada " + rodada, rodada % 10 == 0);
+    }
+
+    private static void verificarCaminhosGrade() {
+        GrafoCSR grafo = GeradorDados.grafoGrade(40);
+        compararCaminhos(grafo, new Random(GeradorDados.SEMENTE), "grade 40x40", false);
+    }
+
+    private static void compararCaminhos(GrafoCSR grafo, Random aleatorio, String caso, boolean todosPares) {
+        int n = grafo.numVertices();
+        GrafoCSR inverso = ConstrutorGrafo.inverso(grafo);
+        ConsultaCaminho consulta = new ConsultaCaminho(grafo, inverso);
+        MarcosALT marcos = new MarcosALT(grafo, inverso, Math.min(4, n));
+        ConsultaHierarquia hierarquia = new ConsultaHierarquia(ConstrutorHierarquia.construir(grafo));
+        FloydWarshall floyd = null;
+        if (todosPares) {
+            floyd = new FloydWarshall(grafo);
+            floyd.calcular();
+        }
+
+        int origens = Math.min(n, 8);
+        int[] loteOrigens = new int[origens * n];
+        int[] loteDestinos = new int[origens * n];
+        int[] esperado = new int[origens * n];
+        int[] completas = new int[n];
+
+        for (int k = 0; k < origens; k++) {
+            int origem = aleatorio.nextInt(n);
+            Dijkstra dijkstra = new Dijkstra(grafo);
+            dijkstra.calcular(origem);
+            int[] distancias = dijkstra.obterDistancias();
+            consulta.todasDistancias(origem, completas);
+
+            for (int destino = 0; destino < n; destino++) {
+                int d = distancias[destino];
+                String par = caso + ", " + origem + " -> " + destino + " (esperado " + d + ")";
+                conferir(completas[destino] == d, "todasDistancias em " + par);
+                conferir(consulta.dijkstra(origem, destino) == d, "dijkstra em " + par);
+                conferir(consulta.bidirecional(origem, destino) == d, "bidirecional em " + par);
+                conferir(consulta.aEstrela(origem, destino, marcos) == d, "A* com marcos em " + par);
+                conferir(hierarquia.distancia(origem, destino) == d, "hierarquia de contracao em " + par);
+                if (floyd != null) {
+                    conferir(floyd.obterDistancia(origem, destino) == d, "Floyd-Warshall em " + par);
+                }
+
+                loteOrigens[k * n + destino] = origem;
+                loteDestinos[k * n + destino] = destino;
+                esperado[k * n + destino] = d;
+            }
+        }
+
+        for (int estrategia = ServidorConsultas.DIJKSTRA; estrategia <= ServidorConsultas.ALT; estrategia++) {
+            ServidorConsultas servidor = new ServidorConsultas(grafo, estrategia);
+            int[] resultado = servidor.resolver(loteOrigens, loteDestinos);
+            servidor.fechar();
+            for (int i = 0; i < resultado.length; i++) {
+                conferir(resultado[i] == esperado[i], "ServidorConsultas (estrategia " + estrategia + ") em "
+                        + caso + ", " + loteOrigens[i] + " -> " + loteDestinos[i]);
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Árvores geradoras mínimas
+    // ------------------------------------------------------------------
+
+    private static long pesoDaArvore(int[] pai, int[] chave) {
+        long total = 0;
+        for (int v = 0; v < pai.length; v++) {
+            if (pai[v] != -1) {
+                total = total + chave[v];
+            }
+        }
+        return total;
+    }
+
+    private static int arestasDaArvore(int[] pai) {
+        int total = 0;
+        for (int v = 0; v < pai.length; v++) {
+            if (pai[v] != -1) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    private static void verificarArvores(Random aleatorio, int rodada) {
+        int n = 1 + aleatorio.nextInt(80);
+        int m = aleatorio.nextInt(3 * n + 1);
+        int pesoMaximo = aleatorio.nextBoolean() ? 5 : 1000; // pesos repetidos e distintos
+
+        // Arestas não direcionadas guardadas para reconstruir o grafo depois das atualizações
+        int[] arestas = new int[3 * (m + 100)];
+        int quantidade = 0;
+        for (int i = 0; i < m; i++) {
+            arestas[3 * quantidade] = aleatorio.nextInt(n);
+            arestas[3 * quantidade + 1] = aleatorio.nextInt(n);
+            arestas[3 * quantidade + 2] = 1 + aleatorio.nextInt(pesoMaximo);
+            quantidade++;
+        }
+
+        String caso = "rodada " + rodada + " (" + n + " vertices, " + m + " arestas)";
+        GrafoCSR grafo = grafoNaoDirecionado(n, arestas, quantidade);
+
+        // Referência: Prim sob demanda, que recomeça em cada componente
+        Prim prim = new Prim(grafo, new MinHeapPrimitiva(n), true);
+        prim.calcular();
+        long pesoPrim = pesoDaArvore(prim.obterPais(), prim.obterChaves());
+        int arestasPrim = arestasDaArvore(prim.obterPais());
+
+        BoruvkaParalelo boruvka = new BoruvkaParalelo(grafo);
+        boruvka.calcular();
+        conferir(pesoDaArvore(boruvka.obterPais(), boruvka.obterChaves()) == pesoPrim, "peso do Boruvka em " + caso);
+        conferir(arestasDaArvore(boruvka.obterPais()) == arestasPrim, "arestas do Boruvka em " + caso);
+
+        FlorestaGeradoraMinima floresta = new FlorestaGeradoraMinima(grafo);
+        floresta.calcular();
+        conferir(floresta.obterPesoTotal() == pesoPrim, "peso da floresta em " + caso);
+        conferir(n - floresta.obterNumComponentes() == arestasPrim, "componentes da floresta em " + caso);
+
+        // Com cada aresta em um só sentido (matriz não simétrica) a floresta usa o fecho
+        // simétrico, então o resultado não muda
+        ConstrutorGrafo umSentido = new ConstrutorGrafo(n, quantidade + 1);
+        for (int i = 0; i < quantidade; i++) {
+            umSentido.adicionarAresta(arestas[3 * i], arestas[3 * i + 1], arestas[3 * i + 2]);
+        }
+        FlorestaGeradoraMinima florestaDirecionada = new FlorestaGeradoraMinima(umSentido.construir());
+        florestaDirecionada.calcular();
+        conferir(florestaDirecionada.obterPesoTotal() == pesoPrim, "peso da floresta sem simetria em " + caso);
+        conferir(arestasDaArvore(florestaDirecionada.obterPais()) == arestasPrim,
+                "arestas da floresta sem simetria em " + caso);
+
+        // A árvore dinâmica recebe inserções e reduções de peso e é comparada com o Prim
+        // refeito do zero sobre o grafo atualizado
+        ArvoreGeradoraDinamica dinamica = new ArvoreGeradoraDinamica(prim);
+        for (int k = 0; k < 100; k++) {
+            if (quantidade > 0 && aleatorio.nextBoolean()) {
+                // Reduz o peso de uma aresta já existente abaixo do da mais leve das paralelas
+                // a ela (a única que pode estar na árvore), e iguala as mais pesadas
+                int e = aleatorio.nextInt(quantidade);
+                int u = arestas[3 * e];
+                int v = arestas[3 * e + 1];
+                int menorPeso = Integer.MAX_VALUE;
+                for (int j = 0; j < quantidade; j++) {
+                    if (mesmoPar(arestas, j, u, v)) {
+                        menorPeso = Math.min(menorPeso, arestas[3 * j + 2]);
+                    }
+                }
+                int novoPeso = Math.max(1, menorPeso - aleatorio.nextInt(30));
+                for (int j = 0; j < quantidade; j++) {
+                    if (mesmoPar(arestas, j, u, v)) {
+                        arestas[3 * j + 2] = novoPeso;
+                    }
+                }
+                dinamica.diminuirPeso(u, v, novoPeso);
+            } else {
+                arestas[3 * quantidade] = aleatorio.nextInt(n);
+                arestas[3 * quantidade + 1] = aleatorio.nextInt(n);
+                arestas[3 * quantidade + 2] = 1 + aleatorio.nextInt(pesoMaximo);
+                dinamica.inserirAresta(arestas[3 * quantidade], arestas[3 * quantidade + 1], arestas[3 * quantidade + 2]);
+                quantidade++;
+            }
+
+            if (k % 20 == 19) {
+                Prim refeito = new Prim(grafoNaoDirecionado(n, arestas, quantidade), new MinHeapPrimitiva(n), true);
+                refeito.calcular();
+                conferir(dinamica.obterPesoTotal() == pesoDaArvore(refeito.obterPais(), refeito.obterChaves()),
+                        "peso da arvore dinamica em " + caso + " apos " + (k + 1) + " atualizacoes");
+                conferir(dinamica.obterNumArestas() == arestasDaArvore(refeito.obterPais()),
+                        "arestas da arvore dinamica em " + caso + " apos " + (k + 1) + " atualizacoes");
+            }
+        }
+    }
+
+    private static boolean mesmoPar(int[] arestas, int j, int u, int v) {
+        return (arestas[3 * j] == u && arestas[3 * j + 1] == v) || (arestas[3 * j] == v && arestas[3 * j + 1] == u);
+    }
+
+    private static GrafoCSR grafoNaoDirecionado(int n, int[] arestas, int quantidade) {
+        ConstrutorGrafo construtor = new ConstrutorGrafo(n, 2 * quantidade + 1);
+        for (int i = 0; i < quantidade; i++) {
+            construtor.adicionarArestaNaoDirecionada(arestas[3 * i], arestas[3 * i + 1], arestas[3 * i + 2]);
+        }
+        return construtor.construir();
+    }
+
+    // ------------------------------------------------------------------
+    // Árvores AVL
+    // ------------------------------------------------------------------
+
+    private static void verificarAVL(Random aleatorio, int rodada) {
+        int universo = 1 + aleatorio.nextInt(2000);
+        int operacoes = aleatorio.nextInt(3000);
+
+        ArvoreAVL arvore = new ArvoreAVL();
+        ArvoreAVLCompacta compacta = new ArvoreAVLCompacta(4);
+        TreeSet<Integer> referencia = new TreeSet<Integer>();
+        String caso = "rodada " + rodada;
+
+        for (int i = 0; i < operacoes; i++) {
+            int chave = aleatorio.nextInt(universo) - universo / 2;
+            if (aleatorio.nextInt(3) == 0) {
+                boolean removida = referencia.remove(chave);
+                conferir(arvore.remover(chave) == removida, "remover(" + chave + ") da ArvoreAVL em " + caso);
+                conferir(compacta.remover(chave) == removida, "remover(" + chave + ") da ArvoreAVLCompacta em " + caso);
+            } else {
+                boolean nova = referencia.add(chave);
+                arvore.inserir(chave);
+                conferir(compacta.inserir(chave) == nova, "inserir(" + chave + ") na ArvoreAVLCompacta em " + caso);
+            }
+        }
+
+        int tamanho = referencia.size();
+        conferir(arvore.obterQuantidadeChaves() == tamanho, "tamanho da ArvoreAVL em " + caso);
+        conferir(compacta.tamanho() == tamanho, "tamanho da ArvoreAVLCompacta em " + caso);
+
+        // selecionar percorre todas as posições na ordem do TreeSet
+        int k = 0;
+        for (int chave : referencia) {
+            conferir(arvore.selecionar(k) == chave, "selecionar(" + k + ") em " + caso);
+            k++;
+        }
+
+        ArvoreEytzinger congelada = arvore.congelar();
+        conferir(congelada.tamanho() == tamanho, "tamanho da ArvoreEytzinger em " + caso);
+
+        int consultas = 200;
+        int[] buscadas = new int[consultas];
+        for (int i = 0; i < consultas; i++) {
+            int chave = aleatorio.nextInt(universo + 2) - universo / 2 - 1;
+            buscadas[i] = chave;
+            boolean existe = referencia.contains(chave);
+            conferir(arvore.contem(chave) == existe, "contem(" + chave + ") na ArvoreAVL em " + caso);
+            conferir(compacta.contem(chave) == existe, "contem(" + chave + ") na ArvoreAVLCompacta em " + caso);
+            conferir(congelada.contem(chave) == existe, "contem(" + chave + ") na ArvoreEytzinger em " + caso);
+            conferir(arvore.posicao(chave) == referencia.headSet(chave, false).size(),
+                    "posicao(" + chave + ") em " + caso);
+
+            int a = chave;
+            int b = chave + aleatorio.nextInt(universo / 2 + 1) - universo / 8;
+            NavigableSet<Integer> intervalo = a <= b ? referencia.subSet(a, true, b, true) : new TreeSet<Integer>();
+            long soma = 0;
+            int[] chavesEsperadas = new int[intervalo.size()];
+            int j = 0;
+            for (int x : intervalo) {
+                soma = soma + x;
+                chavesEsperadas[j] = x;
+                j++;
+            }
+            String faixa = "[" + a + ", " + b + "] em " + caso;
+            conferir(arvore.contarIntervalo(a, b) == intervalo.size(), "contarIntervalo de " + faixa);
+            conferir(arvore.somarIntervalo(a, b) == soma, "somarIntervalo de " + faixa);
+            conferir(Arrays.equals(arvore.chavesNoIntervalo(a, b), chavesEsperadas), "chavesNoIntervalo de " + faixa);
+        }
+
+        boolean[] emLote = congelada.contemLote(buscadas);
+        for (int i = 0; i < consultas; i++) {
+            conferir(emLote[i] == referencia.contains(buscadas[i]), "contemLote(" + buscadas[i] + ") em " + caso);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.application;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Formato binário compacto para grafos CSR, pensado para carga instantânea.
+// Todos os valores são int de 4 bytes em little-endian:
+//   cabeçalho: MAGICO, VERSAO, numVertices, numArestas
+//   offsets:   numVertices + 1 valores
+//   destinos:  numArestas valores
+//   pesos:     numArestas valores
+// A carga apenas mapeia o arquivo em modo somente leitura: nada é copiado ou
+// convertido, e as páginas são trazidas do disco sob demanda pelo sistema operacional.
+class ArquivoGrafoBinario {
+    static final int MAGICO = 0x4C344752;   // "L4GR"
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 16;
+
+    static final int VALORES_POR_BLOCO = 1 << 16;
+
+    // Grava o grafo no formato binário
+    public static void salvar(Grafo grafo, String caminho) throws IOException {
+        FileChannel canal = FileChannel.open(Paths.get(caminho), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            int n = grafo.numVertices();
+            int m = grafo.numArestas();
+            ByteBuffer bloco = ByteBuffer.allocateDirect(4 * VALORES_POR_BLOCO).order(ByteOrder.LITTLE_ENDIAN);
+
+            bloco.putInt(MAGICO);
+            bloco.putInt(VERSAO);
+            bloco.putInt(n);
+            bloco.putInt(m);
+
+            // offsets
+            for (int u = 0; u <= n; u++) {
+                int valor;
+                if (u < n) {
+                    valor = grafo.inicio(u);
+                } else {
+                    valor = m;
+                }
+                escreverInt(canal, bloco, valor);
+            }
+
+            // destinos
+            for (int i = 0; i < m; i++) {
+                escreverInt(canal, bloco, grafo.destino(i));
+            }
+
+            // pesos
+            for (int i = 0; i < m; i++) {
+                escreverInt(canal, bloco, grafo.peso(i));
+            }
+
+            descarregar(canal, bloco);
+        } finally {
+            canal.close();
+        }
+    }
+
+    // Converte um arquivo no formato texto das questões 2 e 3 para o formato binário
+    public static void converterTexto(String caminhoTexto, String caminhoBinario) throws IOException {
+        salvar(CarregadorGrafo.lerGrafo(caminhoTexto), caminhoBinario);
+    }
+
+    // Mapeia o arquivo e devolve um grafo servido diretamente do mapeamento
+    public static GrafoMapeado carregar(String caminho) throws IOException {
+        FileChannel canal = FileChannel.open(Paths.get(caminho), StandardOpenOption.READ);
+        try {
+            long tamanhoArquivo = canal.size();
+            if (tamanhoArquivo < TAMANHO_CABECALHO) {
+                throw new IOException("Arquivo de grafo binario truncado: " + caminho);
+            }
+
+            ByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANHO_CABECALHO)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (cabecalho.getInt(0) != MAGICO || cabecalho.getInt(4) != VERSAO) {
+                throw new IOException("Arquivo nao esta no formato de grafo binario: " + caminho);
+            }
+            int n = cabecalho.getInt(8);
+            int m = cabecalho.getInt(12);
+
+            if (n < 0 || m < 0) {
+                throw new IOException("Cabecalho de grafo binario invalido: " + caminho);
+            }
+            long esperado = TAMANHO_CABECALHO + 4L * ((long) n + 1) + 8L * m;
+            if (tamanhoArquivo < esperado) {
+                throw new IOException("Arquivo de grafo binario truncado: " + caminho);
+            }
+
+            // Cada vetor é mapeado separadamente (cada um pode ter até 2 GB)
+            long inicioOffsets = TAMANHO_CABECALHO;
+            long inicioDestinos = inicioOffsets + 4L * ((long) n + 1);
+            long inicioPesos = inicioDestinos + 4L * m;
+
+            IntBuffer offsets = mapearInts(canal, inicioOffsets, (long) n + 1);
+            IntBuffer destinos = mapearInts(canal, inicioDestinos, m);
+            IntBuffer pesos = mapearInts(canal, inicioPesos, m);
+
+            // Os extremos dos offsets custam duas leituras e pegam a maioria dos arquivos
+            // corrompidos antes que falhem no meio de um percurso dos vizinhos
+            if (offsets.get(0) != 0 || offsets.get(n) != m) {
+                throw new IOException("Offsets inconsistentes no grafo binario: " + caminho);
+            }
+
+            // O mapeamento continua válido depois que o canal é fechado
+            return new GrafoMapeado(n, m, offsets, destinos, pesos);
+        } finally {
+            canal.close();
+        }
+    }
+
+    // Um mapeamento é limitado a 2 GB, ou seja, pouco mais de 536 milhões de ints
+    static IntBuffer mapearInts(FileChannel canal, long inicio, long quantidade) throws IOException {
+        if (4L * quantidade > Integer.MAX_VALUE) {
+            throw new IOException("Vetor com " + quantidade
+                    + " valores excede o limite de 2 GB de um mapeamento de arquivo");
+        }
+        MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, inicio, 4L * quantidade);
+        return mapa.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    static void escreverInt(FileChannel canal, ByteBuffer bloco, int valor) throws IOException {
+        if (!bloco.hasRemaining()) {
+            descarregar(canal, bloco);
+        }
+        bloco.putInt(valor);
+    }
+
+    static void descarregar(FileChannel canal, ByteBuffer bloco) throws IOException {
+        bloco.flip();
+        while (bloco.hasRemaining()) {
+            canal.write(bloco);
+        }
+        bloco.clear();
+    }
+
+    // Uso: java com.application.ArquivoGrafoBinario entrada.txt saida.bin
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Uso: ArquivoGrafoBinario <entrada.txt> <saida.bin>");
+            return;
+        }
+
+        try {
+            converterTexto(args[0], args[1]);
+            System.out.println("Arquivo binario gerado com sucesso!");
+        } catch (IOException e) {
+            System.out.println("Erro ao processar arquivo: " + e.getMessage());
+        }
+    }
+}
+
+// Grafo CSR lido diretamente de um arquivo binário mapeado em memória
+class GrafoMapeado implements Grafo {
+    private int numVertices;
+    private int numArestas;
+    private IntBuffer offsets;    // Visões little-endian sobre o mapeamento
+    private IntBuffer destinos;
+    private IntBuffer pesos;
+
+    GrafoMapeado(int numVertices, int numArestas, IntBuffer offsets, IntBuffer destinos, IntBuffer pesos) {
+        this.numVertices = numVertices;
+        this.numArestas = numArestas;
+        this.offsets = offsets;
+        this.destinos = destinos;
+        this.pesos = pesos;
+    }
+
+    public int numVertices() {
+        return numVertices;
+    }
+
+    public int numArestas() {
+        return numArestas;
+    }
+
+    public int inicio(int u) {
+        return offsets.get(u);
+    }
+
+    public int fim(int u) {
+        return offsets.get(u + 1);
+    }
+
+    public int destino(int aresta) {
+        return destinos.get(aresta);
+    }
+
+    public int peso(int aresta) {
+        return pesos.get(aresta);
+    }
+}
@@ -0,0 +1,681 @@
+package com.application;
+
+import java.io.PrintWriter;
+
+// Classe que representa um nó da árvore AVL
+class No {
+    int chave;          // valor armazenado no nó
+    No esquerda;        // ponteiro para o filho esquerdo
+    No direita;         // ponteiro para o filho direito
+    int altura;         // altura do nó (necessária para o cálculo do balanceamento)
+    int tamanho;        // quantidade de nós na subárvore (consultas por posição)
+    long soma;          // soma das chaves da subárvore (somas por intervalo)
+
+    public No(int chave) {
+        this.chave = chave;
+        this.esquerda = null;   // inicialmente não há filho à esquerda
+        this.direita = null;    // inicialmente não há filho à direita
+        this.altura = 1;        // um novo nó tem altura 1
+        this.tamanho = 1;
+        this.soma = chave;
+    }
+}
+
+class ArvoreAVL {
+    private No raiz;                // raiz da árvore AVL
+    private PrintWriter saida;      // escritor para saída em arquivo (null = modo silencioso)
+    private boolean precisaRotacao; // indica se houve desequilíbrio
+    private int noResponsavel;      // armazena o nó que causou o desbalanceamento
+    private int comparacoes;        // nós comparados na última inserção (para Metricas)
+
+    // A altura de uma AVL com até 2^32 chaves não passa de 1.44 * 32, então 64 basta
+    private static final int ALTURA_MAXIMA = 64;
+    private No[] caminho = new No[ALTURA_MAXIMA]; // pilha de nós visitados (inserção e remoção)
+
+    // Contadores agregados (mantidos nos dois modos)
+    private long quantidadeChaves;  // chaves efetivamente inseridas
+    private long rotacoesLL;        // rotações simples à direita
+    private long rotacoesRR;        // rotações simples à esquerda
+    private long rotacoesLR;        // rotações duplas à direita
+    private long rotacoesRL;        // rotações duplas à esquerda
+
+    public ArvoreAVL(PrintWriter saida) {
+        this.raiz = null;
+        this.saida = saida;
+    }
+
+    // Modo silencioso: nenhuma impressão por inserção, apenas os contadores.
+    // Serve para usar a árvore como índice, carregando milhões de chaves.
+    public ArvoreAVL() {
+        this(null);
+    }
+
+    // Retorna a altura de um nó; se for nulo retorna 0
+    private int obterAltura(No no) {
+        if (no == null) {
+            return 0;
+        }
+        return no.altura;
+    }
+
+    // Calcula o fator de balanceamento (altura direita - altura esquerda)
+    private int calcularFatorBalanceamento(No no) {
+        if (no == null) {
+            return 0;
+        }
+        return obterAltura(no.direita) - obterAltura(no.esquerda);
+    }
+
+    // Atualiza a altura do nó com base em seus filhos
+    private void atualizarAltura(No no) {
+        if (no != null) {
+            int alturaEsq = obterAltura(no.esquerda);
+            int alturaDir = obterAltura(no.direita);
+            no.altura = 1 + (alturaEsq > alturaDir ? alturaEsq : alturaDir);
+        }
+    }
+
+    // Recalcula tamanho e soma do nó a partir dos filhos
+    private void atualizarAgregados(No no) {
+        int tamanho = 1;
+        long soma = no.chave;
+        if (no.esquerda != null) {
+            tamanho = tamanho + no.esquerda.tamanho;
+            soma = soma + no.esquerda.soma;
+        }
+        if (no.direita != null) {
+            tamanho = tamanho + no.direita.tamanho;
+            soma = soma + no.direita.soma;
+        }
+        no.tamanho = tamanho;
+        no.soma = soma;
+    }
+
+    private static int obterTamanho(No no) {
+        if (no == null) {
+            return 0;
+        }
+        return no.tamanho;
+    }
+
+    private static long obterSoma(No no) {
+        if (no == null) {
+            return 0;
+        }
+        return no.soma;
+    }
+
+    // Rotação simples à direita (caso LL)
+    private No rotacaoDireita(No y) {
+        No x = y.esquerda;      // filho esquerdo
+        No T2 = x.direita;      // subárvore direita de x
+
+        // Realiza rotação
+        x.direita = y;
+        y.esquerda = T2;
+
+        // Atualiza alturas e agregados dos nós envolvidos (y agora é filho de x)
+        atualizarAltura(y);
+        atualizarAltura(x);
+        atualizarAgregados(y);
+        atualizarAgregados(x);
+
+        return x; // novo topo da subárvore
+    }
+
+    // Rotação simples à esquerda (caso RR)
+    private No rotacaoEsquerda(No x) {
+        No y = x.direita;       // filho direito
+        No T2 = y.esquerda;     // subárvore esquerda de y
+
+        // Realiza rotação
+        y.esquerda = x;
+        x.direita = T2;
+
+        // Atualiza alturas e agregados (x agora é filho de y)
+        atualizarAltura(x);
+        atualizarAltura(y);
+        atualizarAgregados(x);
+        atualizarAgregados(y);
+
+        return y; // novo topo da subárvore
+    }
+
+    // Impressão em ordem (esquerda - raiz - direita)
+    // Mostra também o fator de balanceamento entre parênteses
+    private void imprimirEmOrdem(No no) {
+        if (no != null) {
+            imprimirEmOrdem(no.esquerda);
+            int fb = calcularFatorBalanceamento(no);
+            String sinal = "";
+            if (fb > 0) {
+                sinal = "+";
+            }
+            saida.print(no.chave + "(" + sinal + fb + ") ");
+            imprimirEmOrdem(no.direita);
+        }
+    }
+
+    // Altura total da árvore (altura da raiz)
+    private int obterAlturaTotal() {
+        return obterAltura(raiz);
+    }
+
+    // Insere um valor e registra mensagens de balanceamento
+    public void inserir(int chave) {
+        precisaRotacao = false;   // reset
+        noResponsavel = -1;       // reset
+        inserirIterativo(chave);
+
+        if (Metricas.ATIVO) {
+            Metricas.registrarInsercaoAVL(comparacoes, obterAlturaTotal());
+        }
+
+        // No modo silencioso não há impressão da árvore a cada inserção
+        if (saida == null) {
+            return;
+        }
+
+        // Se não houve rotação, árvore já estava balanceada
+        if (!precisaRotacao) {
+            saida.println("arvore ja balanceada.");
+        }
+
+        // Imprime estrutura atual
+        imprimirEmOrdem(raiz);
+        saida.println();
+        saida.println(obterAlturaTotal());
+    }
+
+    // Inserção iterativa: desce guardando o caminho em uma pilha explícita e depois
+    // sobe atualizando alturas. A subida para assim que a altura de uma subárvore
+    // não muda (nada acima dela pode ter sido afetado) ou logo após uma rotação,
+    // que na inserção sempre restaura a altura anterior da subárvore.
+    private void inserirIterativo(int chave) {
+        if (raiz == null) {
+            raiz = new No(chave);
+            quantidadeChaves++;
+            comparacoes = 0;
+            return;
+        }
+
+        // Caminha na árvore conforme a chave, empilhando os nós visitados
+        int topo = 0;
+        No atual = raiz;
+        while (atual != null) {
+            caminho[topo] = atual;
+            topo++;
+            if (chave < atual.chave) {
+                atual = atual.esquerda;
+            } else if (chave > atual.chave) {
+                atual = atual.direita;
+            } else {
+                comparacoes = topo;
+                return; // chave duplicada (não insere)
+            }
+        }
+        comparacoes = topo;
+
+        No pai = caminho[topo - 1];
+        if (chave < pai.chave) {
+            pai.esquerda = new No(chave);
+        } else {
+            pai.direita = new No(chave);
+        }
+        quantidadeChaves++;
+
+        // Todo o caminho ganhou uma chave, inclusive acima de onde a subida de alturas
+        // vai parar; as rotações recalculam os agregados dos nós que movem
+        for (int i = 0; i < topo; i++) {
+            caminho[i].tamanho++;
+            caminho[i].soma = caminho[i].soma + chave;
+        }
+
+        for (int i = topo - 1; i >= 0; i--) {
+            No no = caminho[i];
+            int alturaAntiga = no.altura;
+            atualizarAltura(no);
+
+            // Calcula fator de balanceamento
+            int fb = calcularFatorBalanceamento(no);
+
+            if (fb >= -1 && fb <= 1) {
+                if (no.altura == alturaAntiga) {
+                    break; // altura não mudou: o restante do caminho continua igual
+                }
+                continue;
+            }
+
+            // Detecta o primeiro nó desbalanceado (apenas quando há saída)
+            if (saida != null && !precisaRotacao) {
+                precisaRotacao = true;
+                noResponsavel = no.chave;
+                saida.println("no responsavel: " + noResponsavel);
+                imprimirEmOrdem(raiz);
+                saida.println();
+            }
+
+            religar(i, balancear(no, fb));
+            break;
+        }
+    }
+
+    // Remove a chave, se existir. Usa a mesma pilha de caminho da inserção;
+    // na remoção podem ser necessárias várias rotações, então a subida só para
+    // quando a altura da subárvore (já rebalanceada) não muda.
+    public boolean remover(int chave) {
+        precisaRotacao = false;   // remoções não imprimem mensagens de rotação
+        noResponsavel = -1;
+
+        int topo = 0;
+        No atual = raiz;
+        while (atual != null && atual.chave != chave) {
+            caminho[topo] = atual;
+            topo++;
+            if (chave < atual.chave) {
+                atual = atual.esquerda;
+            } else {
+                atual = atual.direita;
+            }
+        }
+
+        if (atual == null) {
+            return false; // chave não encontrada
+        }
+
+        // Com dois filhos, o nó recebe a chave do sucessor (menor da subárvore direita)
+        // e quem sai fisicamente da árvore é o sucessor
+        if (atual.esquerda != null && atual.direita != null) {
+            caminho[topo] = atual;
+            topo++;
+            No sucessor = atual.direita;
+            while (sucessor.esquerda != null) {
+                caminho[topo] = sucessor;
+                topo++;
+                sucessor = sucessor.esquerda;
+            }
+            atual.chave = sucessor.chave;
+            atual = sucessor;
+        }
+
+        // Aqui o nó tem no máximo um filho, que ocupa o seu lugar
+        No filho = atual.esquerda;
+        if (filho == null) {
+            filho = atual.direita;
+        }
+
+        if (topo == 0) {
+            raiz = filho;
+        } else if (caminho[topo - 1].esquerda == atual) {
+            caminho[topo - 1].esquerda = filho;
+        } else {
+            caminho[topo - 1].direita = filho;
+        }
+        quantidadeChaves--;
+
+        // Agregados de todo o caminho, de baixo para cima (a chave de um nó do caminho
+        // pode ter sido trocada pela do sucessor, então é mais simples recalcular)
+        for (int i = topo - 1; i >= 0; i--) {
+            atualizarAgregados(caminho[i]);
+        }
+
+        for (int i = topo - 1; i >= 0; i--) {
+            No no = caminho[i];
+            int alturaAntiga = no.altura;
+            atualizarAltura(no);
+
+            int fb = calcularFatorBalanceamento(no);
+            if (fb < -1 || fb > 1) {
+                no = balancear(no, fb);
+                religar(i, no);
+            }
+
+            if (no.altura == alturaAntiga) {
+                break;
+            }
+        }
+
+        return true;
+    }
+
+    // Busca iterativa
+    public boolean contem(int chave) {
+        No atual = raiz;
+        while (atual != null) {
+            if (chave < atual.chave) {
+                atual = atual.esquerda;
+            } else if (chave > atual.chave) {
+                atual = atual.direita;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ------------------------------------------------------------------
+    // Consultas por posição e por intervalo, em O(log n) graças a tamanho e soma
+    // ------------------------------------------------------------------
+
+    // Recebe as chaves percorridas por percorrerIntervalo, em ordem crescente
+    interface VisitanteChave {
+        void visitar(int chave);
+    }
+
+    // k-ésima menor chave, com k começando em 0 (selecionar(posicao(x)) == x)
+    public int selecionar(int k) {
+        if (k < 0 || k >= obterTamanho(raiz)) {
+            throw new IllegalArgumentException("Posicao fora do intervalo: " + k);
+        }
+
+        No atual = raiz;
+        while (true) {
+            int tamanhoEsquerda = obterTamanho(atual.esquerda);
+            if (k < tamanhoEsquerda) {
+                atual = atual.esquerda;
+            } else if (k == tamanhoEsquerda) {
+                return atual.chave;
+            } else {
+                k = k - tamanhoEsquerda - 1;
+                atual = atual.direita;
+            }
+        }
+    }
+
+    // Quantidade de chaves menores que a chave informada (ela não precisa estar na árvore)
+    public int posicao(int chave) {
+        return contarAte(chave, false);
+    }
+
+    // Quantidade de chaves em [a, b]
+    public int contarIntervalo(int a, int b) {
+        if (a > b) {
+            return 0;
+        }
+        return contarAte(b, true) - contarAte(a, false);
+    }
+
+    // Soma das chaves em [a, b]
+    public long somarIntervalo(int a, int b) {
+        if (a > b) {
+            return 0;
+        }
+        return somarAte(b, true) - somarAte(a, false);
+    }
+
+    // Quantidade de chaves < limite (ou <= limite, se inclusivo)
+    private int contarAte(int limite, boolean inclusivo) {
+        int quantidade = 0;
+        No atual = raiz;
+        while (atual != null) {
+            if (atual.chave < limite || (inclusivo && atual.chave == limite)) {
+                quantidade = quantidade + obterTamanho(atual.esquerda) + 1;
+                atual = atual.direita;
+            } else {
+                atual = atual.esquerda;
+            }
+        }
+        return quantidade;
+    }
+
+    // Soma das chaves < limite (ou <= limite, se inclusivo)
+    private long somarAte(int limite, boolean inclusivo) {
+        long soma = 0;
+        No atual = raiz;
+        while (atual != null) {
+            if (atual.chave < limite || (inclusivo && atual.chave == limite)) {
+                soma = soma + obterSoma(atual.esquerda) + atual.chave;
+                atual = atual.direita;
+            } else {
+                atual = atual.esquerda;
+            }
+        }
+        return soma;
+    }
+
+    // Visita em ordem crescente as chaves em [a, b], em O(log n + quantidade visitada).
+    // Subárvores inteiramente fora do intervalo nunca são visitadas.
+    public void percorrerIntervalo(int a, int b, VisitanteChave visitante) {
+        No[] pilha = new No[ALTURA_MAXIMA];
+        int topo = 0;
+        No atual = raiz;
+
+        while (true) {
+            // Desce pela esquerda, pulando os nós (e subárvores esquerdas) menores que a
+            while (atual != null) {
+                if (atual.chave < a) {
+                    atual = atual.direita;
+                } else {
+                    pilha[topo] = atual;
+                    topo++;
+                    atual = atual.esquerda;
+                }
+            }
+
+            if (topo == 0) {
+                return;
+            }
+            topo--;
+            atual = pilha[topo];
+            if (atual.chave > b) {
+                return; // as chaves seguintes são todas maiores
+            }
+            visitante.visitar(atual.chave);
+            atual = atual.direita;
+        }
+    }
+
+    // Chaves em [a, b], em ordem crescente
+    public int[] chavesNoIntervalo(int a, int b) {
+        final int[] resultado = new int[contarIntervalo(a, b)];
+        final int[] proxima = new int[1];
+        percorrerIntervalo(a, b, chave -> {
+            resultado[proxima[0]] = chave;
+            proxima[0]++;
+        });
+        return resultado;
+    }
+
+    // Exporta as chaves atuais para uma ArvoreEytzinger: um vetor imutável, sem ponteiros,
+    // para a fase em que o índice só é consultado. A árvore continua utilizável e pode ser
+    // congelada de novo depois das próximas atualizações.
+    public ArvoreEytzinger congelar() {
+        int[] ordenadas = chavesNoIntervalo(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return new ArvoreEytzinger(ordenadas, ordenadas.length);
+    }
+
+    // Aplica a rotação adequada a um nó com fb = -2 ou +2 e retorna o novo topo.
+    // O fator do filho é calculado uma única vez para escolher entre os quatro casos.
+    private No balancear(No no, int fb) {
+        boolean informar = saida != null && precisaRotacao && noResponsavel == no.chave;
+
+        if (fb < -1) {
+            // Caso LL (rotação simples à direita)
+            if (calcularFatorBalanceamento(no.esquerda) <= 0) {
+                rotacoesLL++;
+                if (Metricas.ATIVO) {
+                    Metricas.ROTACOES_LL.increment();
+                }
+                if (informar) {
+                    saida.println("rotacao direita.");
+                }
+                return rotacaoDireita(no);
+            }
+
+            // Caso LR (rotação dupla esquerda-direita)
+            rotacoesLR++;
+            if (Metricas.ATIVO) {
+                Metricas.ROTACOES_LR.increment();
+            }
+            if (informar) {
+                saida.println("rotacao direita dupla.");
+            }
+            no.esquerda = rotacaoEsquerda(no.esquerda);
+            return rotacaoDireita(no);
+        }
+
+        // Caso RR (rotação simples à esquerda)
+        if (calcularFatorBalanceamento(no.direita) >= 0) {
+            rotacoesRR++;
+            if (Metricas.ATIVO) {
+                Metricas.ROTACOES_RR.increment();
+            }
+            if (informar) {
+                saida.println("rotacao esquerda.");
+            }
+            return rotacaoEsquerda(no);
+        }
+
+        // Caso RL (rotação dupla direita-esquerda)
+        rotacoesRL++;
+        if (Metricas.ATIVO) {
+            Metricas.ROTACOES_RL.increment();
+        }
+        if (informar) {
+            saida.println("rotacao esquerda dupla.");
+        }
+        no.direita = rotacaoDireita(no.direita);
+        return rotacaoEsquerda(no);
+    }
+
+    // Pendura a nova subárvore no lugar de caminho[i] (no pai dele ou na raiz)
+    private void religar(int i, No novo) {
+        if (i == 0) {
+            raiz = novo;
+        } else if (caminho[i - 1].esquerda == caminho[i]) {
+            caminho[i - 1].esquerda = novo;
+        } else {
+            caminho[i - 1].direita = novo;
+        }
+    }
+
+    // Carga em lote: substitui o conteúdo da árvore pelas chaves informadas.
+    // Se as chaves já estiverem em ordem crescente, a árvore é montada direto em O(n);
+    // caso contrário passam antes por uma ordenação radix (também linear).
+    // Chaves repetidas são ignoradas, como no inserir.
+    public void carregar(int[] chaves, int n) {
+        if (estaOrdenado(chaves, n)) {
+            carregarOrdenado(chaves, n);
+            return;
+        }
+
+        int[] copia = new int[n];
+        for (int i = 0; i < n; i++) {
+            copia[i] = chaves[i];
+        }
+        ordenarRadix(copia, n);
+        carregarOrdenado(copia, n);
+    }
+
+    // Carga em lote de chaves já em ordem crescente (repetições consecutivas são ignoradas).
+    // A árvore é montada de baixo para cima escolhendo sempre o elemento do meio como raiz,
+    // o que a deixa perfeitamente balanceada sem nenhuma rotação.
+    public void carregarOrdenado(int[] chaves, int n) {
+        if (!estaOrdenado(chaves, n)) {
+            throw new IllegalArgumentException("As chaves precisam estar em ordem crescente");
+        }
+
+        // Remove repetições em uma cópia compacta
+        int[] unicas = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (m == 0 || chaves[i] != unicas[m - 1]) {
+                unicas[m] = chaves[i];
+                m++;
+            }
+        }
+
+        raiz = construirBalanceada(unicas, 0, m - 1);
+        quantidadeChaves = m;
+    }
+
+    // Monta a subárvore com as chaves de ini a fim; as alturas são definidas na volta
+    private No construirBalanceada(int[] chaves, int ini, int fim) {
+        if (ini > fim) {
+            return null;
+        }
+
+        int meio = (ini + fim) >>> 1;
+        No no = new No(chaves[meio]);
+        no.esquerda = construirBalanceada(chaves, ini, meio - 1);
+        no.direita = construirBalanceada(chaves, meio + 1, fim);
+        atualizarAltura(no);
+        atualizarAgregados(no);
+        return no;
+    }
+
+    private static boolean estaOrdenado(int[] chaves, int n) {
+        for (int i = 1; i < n; i++) {
+            if (chaves[i] < chaves[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Ordenação radix (LSD) de 4 passadas de 8 bits. O bit de sinal é invertido
+    // para que os negativos venham antes dos positivos.
+    private static void ordenarRadix(int[] vetor, int n) {
+        int[] auxiliar = new int[n];
+        int[] contagem = new int[257];
+
+        for (int deslocamento = 0; deslocamento < 32; deslocamento = deslocamento + 8) {
+            for (int i = 0; i < 257; i++) {
+                contagem[i] = 0;
+            }
+
+            for (int i = 0; i < n; i++) {
+                int digito = ((vetor[i] ^ Integer.MIN_VALUE) >>> deslocamento) & 0xFF;
+                contagem[digito + 1]++;
+            }
+            for (int i = 0; i < 256; i++) {
+                contagem[i + 1] = contagem[i + 1] + contagem[i];
+            }
+            for (int i = 0; i < n; i++) {
+                int digito = ((vetor[i] ^ Integer.MIN_VALUE) >>> deslocamento) & 0xFF;
+                auxiliar[contagem[digito]] = vetor[i];
+                contagem[digito]++;
+            }
+
+            // Devolve o resultado da passada para o vetor original
+            int[] temp = vetor;
+            vetor = auxiliar;
+            auxiliar = temp;
+        }
+        // Como o número de passadas é par, o resultado final já está no vetor original
+    }
+
+    public long obterQuantidadeChaves() {
+        return quantidadeChaves;
+    }
+
+    public int obterAltura() {
+        return obterAlturaTotal();
+    }
+
+    public long obterRotacoesLL() {
+        return rotacoesLL;
+    }
+
+    public long obterRotacoesRR() {
+        return rotacoesRR;
+    }
+
+    public long obterRotacoesLR() {
+        return rotacoesLR;
+    }
+
+    public long obterRotacoesRL() {
+        return rotacoesRL;
+    }
+
+    // Imprime apenas os contadores agregados (usado no modo silencioso)
+    public void imprimirResumo(PrintWriter destino) {
+        destino.println("chaves: " + quantidadeChaves);
+        destino.println("rotacoes direita (LL): " + rotacoesLL);
+        destino.println("rotacoes esquerda (RR): " + rotacoesRR);
+        destino.println("rotacoes direita dupla (LR): " + rotacoesLR);
+        destino.println("rotacoes esquerda dupla (RL): " + rotacoesRL);
+        destino.println("altura final: " + obterAlturaTotal());
+    }
+}
@@ -0,0 +1,290 @@
+package com.application;
+
+// Árvore AVL sem um objeto por nó: os nós vivem em vetores paralelos
+// (chave, esquerda, direita e altura) e são referenciados por índices inteiros.
+// Cada chave ocupa 13 bytes (3 ints + 1 byte) contra ~40 bytes de um objeto No
+// (cabeçalho, duas referências e os campos de chave, altura, tamanho e soma),
+// e o coletor de lixo só enxerga quatro vetores primitivos, então as pausas
+// não crescem com o tamanho da árvore.
+//
+// O índice 0 é o "nulo": altura[0] = 0, o que dispensa testes de null no cálculo
+// das alturas. Nós removidos vão para uma lista de livres encadeada pelo vetor
+// esquerda e são reaproveitados antes de o vetor crescer.
+class ArvoreAVLCompacta {
+    private static final int NULO = 0;
+    private static final int ALTURA_MAXIMA = 64;
+
+    private int[] chave;      // Chave de cada nó
+    private int[] esquerda;   // Índice do filho esquerdo (NULO se não houver)
+    private int[] direita;    // Índice do filho direito (NULO se não houver)
+    private byte[] altura;    // Altura de cada nó (uma AVL de ints nunca passa de 64)
+    private int raiz;         // Índice da raiz
+    private int proximoNovo;  // Primeiro índice nunca usado
+    private int livres;       // Topo da lista de nós livres (NULO se vazia)
+    private int tamanho;      // Quantidade de chaves
+    private int[] caminho = new int[ALTURA_MAXIMA]; // Pilha de índices visitados
+
+    public ArvoreAVLCompacta() {
+        this(16);
+    }
+
+    // Capacidade inicial em nós; informar o tamanho esperado evita cópias ao crescer
+    public ArvoreAVLCompacta(int capacidade) {
+        if (capacidade < 1) {
+            capacidade = 1;
+        }
+        chave = new int[capacidade + 1];
+        esquerda = new int[capacidade + 1];
+        direita = new int[capacidade + 1];
+        altura = new byte[capacidade + 1];
+        raiz = NULO;
+        proximoNovo = 1;
+        livres = NULO;
+        tamanho = 0;
+    }
+
+    // Obtém um índice livre, reaproveitando nós removidos
+    private int alocar(int chaveNo) {
+        int no;
+        if (livres != NULO) {
+            no = livres;
+            livres = esquerda[no];
+        } else {
+            if (proximoNovo == chave.length) {
+                crescer();
+            }
+            no = proximoNovo;
+            proximoNovo++;
+        }
+
+        chave[no] = chaveNo;
+        esquerda[no] = NULO;
+        direita[no] = NULO;
+        altura[no] = 1;
+        return no;
+    }
+
+    // Devolve o nó para a lista de livres
+    private void liberar(int no) {
+        esquerda[no] = livres;
+        direita[no] = NULO;
+        altura[no] = 0;
+        livres = no;
+    }
+
+    // Dobra a capacidade dos vetores
+    private void crescer() {
+        int capacidade = chave.length * 2;
+        int[] novaChave = new int[capacidade];
+        int[] novaEsquerda = new int[capacidade];
+        int[] novaDireita = new int[capacidade];
+        byte[] novaAltura = new byte[capacidade];
+
+        for (int i = 0; i < chave.length; i++) {
+            novaChave[i] = chave[i];
+            novaEsquerda[i] = esquerda[i];
+            novaDireita[i] = direita[i];
+            novaAltura[i] = altura[i];
+        }
+
+        chave = novaChave;
+        esquerda = novaEsquerda;
+        direita = novaDireita;
+        altura = novaAltura;
+    }
+
+    private void atualizarAltura(int no) {
+        int alturaEsq = altura[esquerda[no]];
+        int alturaDir = altura[direita[no]];
+        altura[no] = (byte) (1 + (alturaEsq > alturaDir ? alturaEsq : alturaDir));
+    }
+
+    private int fatorBalanceamento(int no) {
+        return altura[direita[no]] - altura[esquerda[no]];
+    }
+
+    // Rotação simples à direita (caso LL)
+    private int rotacaoDireita(int y) {
+        int x = esquerda[y];
+        esquerda[y] = direita[x];
+        direita[x] = y;
+        atualizarAltura(y);
+        atualizarAltura(x);
+        return x;
+    }
+
+    // Rotação simples à esquerda (caso RR)
+    private int rotacaoEsquerda(int x) {
+        int y = direita[x];
+        direita[x] = esquerda[y];
+        esquerda[y] = x;
+        atualizarAltura(x);
+        atualizarAltura(y);
+        return y;
+    }
+
+    // Aplica a rotação adequada a um nó com fb = -2 ou +2 e retorna o novo topo
+    private int balancear(int no, int fb) {
+        if (fb < -1) {
+            if (fatorBalanceamento(esquerda[no]) > 0) {
+                esquerda[no] = rotacaoEsquerda(esquerda[no]);   // caso LR
+            }
+            return rotacaoDireita(no);
+        }
+
+        if (fatorBalanceamento(direita[no]) < 0) {
+            direita[no] = rotacaoDireita(direita[no]);          // caso RL
+        }
+        return rotacaoEsquerda(no);
+    }
+
+    // Pendura a nova subárvore no lugar de caminho[i]
+    private void religar(int i, int novo) {
+        if (i == 0) {
+            raiz = novo;
+        } else if (esquerda[caminho[i - 1]] == caminho[i]) {
+            esquerda[caminho[i - 1]] = novo;
+        } else {
+            direita[caminho[i - 1]] = novo;
+        }
+    }
+
+    // Insere a chave; retorna false se ela já existia
+    public boolean inserir(int chaveNova) {
+        if (raiz == NULO) {
+            raiz = alocar(chaveNova);
+            tamanho++;
+            return true;
+        }
+
+        int topo = 0;
+        int atual = raiz;
+        while (atual != NULO) {
+            caminho[topo] = atual;
+            topo++;
+            if (chaveNova < chave[atual]) {
+                atual = esquerda[atual];
+            } else if (chaveNova > chave[atual]) {
+                atual = direita[atual];
+            } else {
+                return false;
+            }
+        }
+
+        // alocar pode trocar os vetores, então o índice do pai é lido depois
+        int novo = alocar(chaveNova);
+        int pai = caminho[topo - 1];
+        if (chaveNova < chave[pai]) {
+            esquerda[pai] = novo;
+        } else {
+            direita[pai] = novo;
+        }
+        tamanho++;
+
+        for (int i = topo - 1; i >= 0; i--) {
+            int no = caminho[i];
+            int alturaAntiga = altura[no];
+            atualizarAltura(no);
+
+            int fb = fatorBalanceamento(no);
+            if (fb >= -1 && fb <= 1) {
+                if (altura[no] == alturaAntiga) {
+                    break;
+                }
+                continue;
+            }
+
+            religar(i, balancear(no, fb));
+            break;
+        }
+        return true;
+    }
+
+    // Remove a chave; retorna false se ela não existia
+    public boolean remover(int chaveRemovida) {
+        int topo = 0;
+        int atual = raiz;
+        while (atual != NULO && chave[atual] != chaveRemovida) {
+            caminho[topo] = atual;
+            topo++;
+            if (chaveRemovida < chave[atual]) {
+                atual = esquerda[atual];
+            } else {
+                atual = direita[atual];
+            }
+        }
+
+        if (atual == NULO) {
+            return false;
+        }
+
+        // Com dois filhos, copia a chave do sucessor e remove o sucessor
+        if (esquerda[atual] != NULO && direita[atual] != NULO) {
+            caminho[topo] = atual;
+            topo++;
+            int sucessor = direita[atual];
+            while (esquerda[sucessor] != NULO) {
+                caminho[topo] = sucessor;
+                topo++;
+                sucessor = esquerda[sucessor];
+            }
+            chave[atual] = chave[sucessor];
+            atual = sucessor;
+        }
+
+        int filho = esquerda[atual];
+        if (filho == NULO) {
+            filho = direita[atual];
+        }
+
+        if (topo == 0) {
+            raiz = filho;
+        } else if (esquerda[caminho[topo - 1]] == atual) {
+            esquerda[caminho[topo - 1]] = filho;
+        } else {
+            direita[caminho[topo - 1]] = filho;
+        }
+        liberar(atual);
+        tamanho--;
+
+        for (int i = topo - 1; i >= 0; i--) {
+            int no = caminho[i];
+            int alturaAntiga = altura[no];
+            atualizarAltura(no);
+
+            int fb = fatorBalanceamento(no);
+            if (fb < -1 || fb > 1) {
+                no = balancear(no, fb);
+                religar(i, no);
+            }
+
+            if (altura[no] == alturaAntiga) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    public boolean contem(int chaveBuscada) {
+        int atual = raiz;
+        while (atual != NULO) {
+            int c = chave[atual];
+            if (chaveBuscada < c) {
+                atual = esquerda[atual];
+            } else if (chaveBuscada > c) {
+                atual = direita[atual];
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public int altura() {
+        return altura[raiz];
+    }
+}
@@ -0,0 +1,228 @@
+package com.application;
+
+import java.util.function.BiConsumer;
+
+// AVL persistente (chave int -> valor): cada instância é uma versão imutável da árvore.
+//
+// inserir e remover não alteram a versão atual. Eles copiam apenas os O(log n) nós
+// do caminho até a chave, mais os envolvidos nas rotações, e retornam uma nova versão
+// que compartilha todo o resto com a anterior. Por isso:
+//   - guardar uma versão (um instantâneo) custa O(1): basta manter a referência;
+//   - quem percorre uma versão enxerga sempre a mesma árvore consistente, sem travas,
+//     mesmo com escritas gerando novas versões em outras threads;
+//   - versões que ninguém mais referencia são recolhidas pelo coletor de lixo.
+// É a base do MapaAVLConcorrente, que publica a versão mais recente em um campo volatile.
+final class ArvoreAVLPersistente<V> {
+
+    // Nó imutável da AVL
+    static final class NoImutavel<V> {
+        final int chave;
+        final V valor;
+        final NoImutavel<V> esquerda;
+        final NoImutavel<V> direita;
+        final int altura;
+
+        NoImutavel(int chave, V valor, NoImutavel<V> esquerda, NoImutavel<V> direita) {
+            this.chave = chave;
+            this.valor = valor;
+            this.esquerda = esquerda;
+            this.direita = direita;
+            int alturaEsq = altura(esquerda);
+            int alturaDir = altura(direita);
+            this.altura = 1 + (alturaEsq > alturaDir ? alturaEsq : alturaDir);
+        }
+    }
+
+    private static final ArvoreAVLPersistente<Object> VAZIA = new ArvoreAVLPersistente<Object>(null, 0);
+
+    private final NoImutavel<V> raiz;
+    private final int tamanho;
+
+    private ArvoreAVLPersistente(NoImutavel<V> raiz, int tamanho) {
+        this.raiz = raiz;
+        this.tamanho = tamanho;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> ArvoreAVLPersistente<V> vazia() {
+        return (ArvoreAVLPersistente<V>) VAZIA;
+    }
+
+    // ------------------------------------------------------------------
+    // Leituras
+    // ------------------------------------------------------------------
+
+    public V buscar(int chave) {
+        NoImutavel<V> atual = raiz;
+        while (atual != null) {
+            if (chave < atual.chave) {
+                atual = atual.esquerda;
+            } else if (chave > atual.chave) {
+                atual = atual.direita;
+            } else {
+                return atual.valor;
+            }
+        }
+        return null;
+    }
+
+    public boolean contem(int chave) {
+        NoImutavel<V> atual = raiz;
+        while (atual != null) {
+            if (chave < atual.chave) {
+                atual = atual.esquerda;
+            } else if (chave > atual.chave) {
+                atual = atual.direita;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public boolean estaVazia() {
+        return raiz == null;
+    }
+
+    public int obterAltura() {
+        return altura(raiz);
+    }
+
+    // Percorre esta versão em ordem crescente de chave
+    public void paraCada(BiConsumer<Integer, V> acao) {
+        percorrer(raiz, acao);
+    }
+
+    // Percorre em ordem as chaves em [a, b], sem descer em subárvores fora do intervalo
+    public void paraCadaNoIntervalo(int a, int b, BiConsumer<Integer, V> acao) {
+        percorrerIntervalo(raiz, a, b, acao);
+    }
+
+    private static <V> void percorrer(NoImutavel<V> no, BiConsumer<Integer, V> acao) {
+        if (no != null) {
+            percorrer(no.esquerda, acao);
+            acao.accept(no.chave, no.valor);
+            percorrer(no.direita, acao);
+        }
+    }
+
+    private static <V> void percorrerIntervalo(NoImutavel<V> no, int a, int b, BiConsumer<Integer, V> acao) {
+        if (no == null) {
+            return;
+        }
+        if (no.chave > a) {
+            percorrerIntervalo(no.esquerda, a, b, acao);
+        }
+        if (no.chave >= a && no.chave <= b) {
+            acao.accept(no.chave, no.valor);
+        }
+        if (no.chave < b) {
+            percorrerIntervalo(no.direita, a, b, acao);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Escritas: retornam uma nova versão e não alteram esta
+    // ------------------------------------------------------------------
+
+    // Nova versão com a chave associada ao valor (substitui o valor se a chave existir)
+    public ArvoreAVLPersistente<V> inserir(int chave, V valor) {
+        int novoTamanho = contem(chave) ? tamanho : tamanho + 1;
+        return new ArvoreAVLPersistente<V>(inserirRec(raiz, chave, valor), novoTamanho);
+    }
+
+    // Nova versão sem a chave (a própria versão, se a chave não existir)
+    public ArvoreAVLPersistente<V> remover(int chave) {
+        if (!contem(chave)) {
+            return this;
+        }
+        return new ArvoreAVLPersistente<V>(removerRec(raiz, chave), tamanho - 1);
+    }
+
+    private static <V> NoImutavel<V> inserirRec(NoImutavel<V> no, int chave, V valor) {
+        if (no == null) {
+            return new NoImutavel<V>(chave, valor, null, null);
+        }
+
+        if (chave < no.chave) {
+            return balancear(no.chave, no.valor, inserirRec(no.esquerda, chave, valor), no.direita);
+        } else if (chave > no.chave) {
+            return balancear(no.chave, no.valor, no.esquerda, inserirRec(no.direita, chave, valor));
+        }
+
+        // Chave existente: só o valor muda
+        return new NoImutavel<V>(chave, valor, no.esquerda, no.direita);
+    }
+
+    // Só é chamado quando a chave existe
+    private static <V> NoImutavel<V> removerRec(NoImutavel<V> no, int chave) {
+        if (chave < no.chave) {
+            return balancear(no.chave, no.valor, removerRec(no.esquerda, chave), no.direita);
+        } else if (chave > no.chave) {
+            return balancear(no.chave, no.valor, no.esquerda, removerRec(no.direita, chave));
+        }
+
+        if (no.esquerda == null) {
+            return no.direita;
+        }
+        if (no.direita == null) {
+            return no.esquerda;
+        }
+
+        // Dois filhos: o sucessor (menor da direita) ocupa o lugar do nó
+        NoImutavel<V> sucessor = no.direita;
+        while (sucessor.esquerda != null) {
+            sucessor = sucessor.esquerda;
+        }
+        return balancear(sucessor.chave, sucessor.valor, no.esquerda, removerMinimo(no.direita));
+    }
+
+    private static <V> NoImutavel<V> removerMinimo(NoImutavel<V> no) {
+        if (no.esquerda == null) {
+            return no.direita;
+        }
+        return balancear(no.chave, no.valor, removerMinimo(no.esquerda), no.direita);
+    }
+
+    // Monta um novo nó com os filhos informados, aplicando a rotação necessária
+    private static <V> NoImutavel<V> balancear(int chave, V valor, NoImutavel<V> esq, NoImutavel<V> dir) {
+        int fb = altura(dir) - altura(esq);
+
+        if (fb < -1) {
+            // Casos LL e LR
+            if (altura(esq.direita) > altura(esq.esquerda)) {
+                NoImutavel<V> meio = esq.direita;
+                return new NoImutavel<V>(meio.chave, meio.valor,
+                        new NoImutavel<V>(esq.chave, esq.valor, esq.esquerda, meio.esquerda),
+                        new NoImutavel<V>(chave, valor, meio.direita, dir));
+            }
+            return new NoImutavel<V>(esq.chave, esq.valor, esq.esquerda,
+                    new NoImutavel<V>(chave, valor, esq.direita, dir));
+        }
+
+        if (fb > 1) {
+            // Casos RR e RL
+            if (altura(dir.esquerda) > altura(dir.direita)) {
+                NoImutavel<V> meio = dir.esquerda;
+                return new NoImutavel<V>(meio.chave, meio.valor,
+                        new NoImutavel<V>(chave, valor, esq, meio.esquerda),
+                        new NoImutavel<V>(dir.chave, dir.valor, meio.direita, dir.direita));
+            }
+            return new NoImutavel<V>(dir.chave, dir.valor,
+                    new NoImutavel<V>(chave, valor, esq, dir.esquerda), dir.direita);
+        }
+
+        return new NoImutavel<V>(chave, valor, esq, dir);
+    }
+
+    static int altura(NoImutavel<?> no) {
+        if (no == null) {
+            return 0;
+        }
+        return no.altura;
+    }
+}
@@ -0,0 +1,123 @@
+package com.application;
+
+// Versão congelada (imutável) de um conjunto de chaves, para índices lidos muito mais
+// do que escritos: monta-se com ArvoreAVL.congelar() depois das atualizações em lote
+// e consulta-se daí em diante sem nenhum ponteiro.
+//
+// As chaves ficam em um único vetor na ordem de Eytzinger (a ordem de uma heap binária):
+// a raiz na posição 1 e os filhos de k em 2k e 2k + 1. Os primeiros níveis, visitados
+// por todas as buscas, ficam juntos no início do vetor e permanecem na cache, e uma busca
+// não segue ponteiros espalhados pelo heap como na árvore de objetos No.
+//
+// O vetor é completado até 2^h - 1 posições com Integer.MAX_VALUE (depois de todas as chaves
+// reais na ordem crescente), então toda busca desce exatamente h níveis. O passo de cada nível
+// é k = 2k + (arvore[k] < chave ? 1 : 0), sem desvio que dependa dos dados, e no fim o
+// resultado é recuperado desfazendo as últimas descidas à direita. Como o complemento
+// também vale Integer.MAX_VALUE, essa chave só é encontrada se estiver entre as reais.
+class ArvoreEytzinger {
+    // Chaves buscadas ao mesmo tempo em contemLote: as leituras de buscas diferentes
+    // não dependem umas das outras e o processador pode esperar por várias juntas
+    private static final int LOTE = 16;
+
+    private final int[] arvore;     // arvore[1..tamanhoCompleto] (posição 0 sem uso)
+    private final int tamanho;      // Quantidade de chaves reais
+    private final int niveis;       // h: toda busca desce exatamente h níveis
+    private final boolean temMaximo; // Integer.MAX_VALUE é uma chave real (e não só complemento)
+
+    // Chaves em ordem estritamente crescente (como as retornadas por chavesNoIntervalo)
+    public ArvoreEytzinger(int[] ordenadas, int n) {
+        for (int i = 1; i < n; i++) {
+            if (ordenadas[i] <= ordenadas[i - 1]) {
+                throw new IllegalArgumentException("As chaves precisam estar em ordem estritamente crescente");
+            }
+        }
+
+        int h = 0;
+        while ((1 << h) - 1 < n) {
+            h++;
+        }
+        int tamanhoCompleto = (1 << h) - 1;
+
+        this.tamanho = n;
+        this.niveis = h;
+        this.arvore = new int[tamanhoCompleto + 1];
+        this.temMaximo = n > 0 && ordenadas[n - 1] == Integer.MAX_VALUE;
+
+        // Percurso em ordem das posições 1..tamanhoCompleto, preenchido com as chaves
+        // crescentes e depois com o complemento Integer.MAX_VALUE
+        int proxima = 0;
+        int k = 1;
+        int[] pilha = new int[h + 1];
+        int topo = 0;
+        while (true) {
+            while (k <= tamanhoCompleto) {
+                pilha[topo] = k;
+                topo++;
+                k = 2 * k;
+            }
+            if (topo == 0) {
+                break;
+            }
+            topo--;
+            k = pilha[topo];
+            arvore[k] = proxima < n ? ordenadas[proxima] : Integer.MAX_VALUE;
+            proxima++;
+            k = 2 * k + 1;
+        }
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    // Posição da menor chave >= chave, ou 0 se todas forem menores
+    private int limiteInferior(int chave) {
+        int[] a = arvore;
+        int k = 1;
+        for (int nivel = 0; nivel < niveis; nivel++) {
+            k = 2 * k + (a[k] < chave ? 1 : 0);
+        }
+        // Cada descida à direita depois da última à esquerda passou por chaves menores
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    public boolean contem(int chave) {
+        int k = limiteInferior(chave);
+        return k != 0 && arvore[k] == chave && (chave != Integer.MAX_VALUE || temMaximo);
+    }
+
+    // Consulta várias chaves de uma vez: resultado[i] = contem(chaves[i]).
+    // As buscas andam em grupos de LOTE, um nível por vez para o grupo inteiro, então as
+    // leituras dos níveis profundos (as que saem da cache) de buscas diferentes se sobrepõem
+    // em vez de esperar uma pela outra.
+    public void contemLote(int[] chaves, int quantidade, boolean[] resultado) {
+        int[] a = arvore;
+        int[] k = new int[LOTE];
+
+        for (int inicio = 0; inicio < quantidade; inicio = inicio + LOTE) {
+            int fim = Math.min(inicio + LOTE, quantidade);
+            int m = fim - inicio;
+
+            for (int j = 0; j < m; j++) {
+                k[j] = 1;
+            }
+            for (int nivel = 0; nivel < niveis; nivel++) {
+                for (int j = 0; j < m; j++) {
+                    k[j] = 2 * k[j] + (a[k[j]] < chaves[inicio + j] ? 1 : 0);
+                }
+            }
+            for (int j = 0; j < m; j++) {
+                int posicao = k[j] >>> (Integer.numberOfTrailingZeros(~k[j]) + 1);
+                int chave = chaves[inicio + j];
+                resultado[inicio + j] = posicao != 0 && a[posicao] == chave
+                        && (chave != Integer.MAX_VALUE || temMaximo);
+            }
+        }
+    }
+
+    public boolean[] contemLote(int[] chaves) {
+        boolean[] resultado = new boolean[chaves.length];
+        contemLote(chaves, chaves.length, resultado);
+        return resultado;
+    }
+}
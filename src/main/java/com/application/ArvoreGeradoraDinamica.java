@@ -0,0 +1,362 @@
+package com.application;
+
+// Árvore (ou floresta) geradora mínima mantida sob inserção de arestas e redução de pesos,
+// sem recalcular o Prim a cada mudança.
+//
+// Ao inserir a aresta (u, v, p):
+//   - se u e v estão em componentes diferentes, a aresta entra na floresta;
+//   - senão ela fecha um ciclo com o caminho u..v da árvore, e se a aresta mais pesada
+//     desse caminho pesa mais que p, ela sai e a nova entra (propriedade do ciclo).
+// Diminuir o peso de (u, v) para p equivale a inserir uma aresta paralela (u, v, p):
+// a antiga, mais pesada, nunca mais seria escolhida. Por isso só as arestas da árvore
+// precisam ser guardadas. Aumentar o peso de uma aresta fora da árvore também não muda
+// nada, mas aumentar o de uma aresta da árvore exigiria procurar uma substituta entre
+// as arestas fora dela, que não são guardadas: diminuirPeso rejeita esse caso.
+//
+// O caminho u..v e a sua aresta mais pesada vêm de uma link-cut tree: cada vértice e cada
+// aresta da árvore é um nó (a aresta fica entre os seus dois extremos), e os caminhos
+// preferidos são splay trees que guardam o nó de maior peso de cada subárvore.
+// Cada atualização custa O(log V) amortizado.
+// Os nós vivem em vetores paralelos, como na ArvoreAVLCompacta: 0..V-1 são os vértices
+// e V..2V-2 as arestas, reaproveitadas por uma lista de livres.
+class ArvoreGeradoraDinamica {
+    private static final int NULO = -1;
+
+    private int numVertices;
+
+    // Link-cut tree
+    private int[] esquerda;       // Filhos na splay tree
+    private int[] direita;
+    private int[] pai;            // Pai na splay tree ou, na raiz da splay, o pai do caminho
+    private boolean[] invertido;  // Inversão pendente da subárvore (usada por tornarRaiz)
+    private int[] peso;           // Peso da aresta (Integer.MIN_VALUE nos vértices)
+    private int[] maior;          // Nó de maior peso na subárvore da splay
+    private int[] pilha;          // Caminho até a raiz da splay, para propagar inversões
+
+    // Arestas da árvore
+    private int[] extremoA;
+    private int[] extremoB;
+    private boolean[] ativa;
+    private int livres;           // Lista de nós de aresta livres (encadeada por extremoA)
+    private int numArestas;
+    private long pesoTotal;
+
+    // Semeia a estrutura com uma árvore já calculada pelo Prim (depois de calcular ou executar)
+    public ArvoreGeradoraDinamica(Prim prim) {
+        this(prim.obterPais().length, prim.obterPais(), prim.obterChaves());
+    }
+
+    // Semeia a estrutura com o resultado do Prim (obterPais e obterChaves);
+    // vértices com pai -1 são raízes e a floresta pode ter vários componentes
+    public ArvoreGeradoraDinamica(int numVertices, int[] paiPrim, int[] chavePrim) {
+        this.numVertices = numVertices;
+        int capacidade = 2 * numVertices;
+
+        esquerda = new int[capacidade];
+        direita = new int[capacidade];
+        pai = new int[capacidade];
+        invertido = new boolean[capacidade];
+        peso = new int[capacidade];
+        maior = new int[capacidade];
+        pilha = new int[capacidade];
+        extremoA = new int[capacidade];
+        extremoB = new int[capacidade];
+        ativa = new boolean[capacidade];
+
+        for (int x = 0; x < capacidade; x++) {
+            esquerda[x] = NULO;
+            direita[x] = NULO;
+            pai[x] = NULO;
+            peso[x] = Integer.MIN_VALUE;
+            maior[x] = x;
+        }
+
+        // Nós de aresta começam todos livres
+        livres = NULO;
+        for (int x = capacidade - 1; x >= numVertices; x--) {
+            extremoA[x] = livres;
+            livres = x;
+        }
+
+        for (int v = 0; v < numVertices; v++) {
+            if (paiPrim[v] != -1) {
+                ligarAresta(v, paiPrim[v], chavePrim[v]);
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Atualizações
+    // ------------------------------------------------------------------
+
+    // Insere a aresta (u, v, p); retorna true se a árvore mudou
+    public boolean inserirAresta(int u, int v, int pesoAresta) {
+        if (u < 0 || u >= numVertices || v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Aresta fora do intervalo de vertices: " + u + " - " + v);
+        }
+        if (u == v) {
+            return false; // laços nunca entram na árvore
+        }
+
+        if (encontrarRaiz(u) != encontrarRaiz(v)) {
+            ligarAresta(u, v, pesoAresta);
+            return true;
+        }
+
+        // Aresta mais pesada do ciclo fechado por (u, v)
+        tornarRaiz(u);
+        acessar(v);
+        int maisPesada = maior[v];
+        if (peso[maisPesada] <= pesoAresta) {
+            return false;
+        }
+
+        cortarAresta(maisPesada);
+        ligarAresta(u, v, pesoAresta);
+        return true;
+    }
+
+    // O peso da aresta (u, v) caiu para novoPeso (a aresta pode ou não estar na árvore).
+    // Se ela está na árvore, novoPeso não pode ser maior que o peso atual; com arestas
+    // paralelas entre u e v, vale o peso da que está na árvore.
+    public boolean diminuirPeso(int u, int v, int novoPeso) {
+        if (u >= 0 && u < numVertices && v >= 0 && v < numVertices) {
+            int e = arestaEntre(u, v);
+            if (e != NULO && novoPeso > peso[e]) {
+                throw new IllegalArgumentException("A aresta " + u + " - " + v + " da arvore pesa " + peso[e]
+                        + "; aumentar o peso para " + novoPeso + " nao e suportado");
+            }
+        }
+        return inserirAresta(u, v, novoPeso);
+    }
+
+    // Nó da aresta (u, v) da árvore, ou NULO se u e v não são vizinhos na árvore
+    private int arestaEntre(int u, int v) {
+        if (u == v || encontrarRaiz(u) != encontrarRaiz(v)) {
+            return NULO;
+        }
+        tornarRaiz(u);
+        acessar(v);
+        // O caminho u..v está à esquerda de v na splay; o nó logo antes de v é uma aresta
+        int x = esquerda[v];
+        propagar(x);
+        while (direita[x] != NULO) {
+            x = direita[x];
+            propagar(x);
+        }
+        splay(x);
+        if ((extremoA[x] == u && extremoB[x] == v) || (extremoA[x] == v && extremoB[x] == u)) {
+            return x;
+        }
+        return NULO;
+    }
+
+    private void ligarAresta(int u, int v, int pesoAresta) {
+        int e = livres;
+        livres = extremoA[e];
+
+        extremoA[e] = u;
+        extremoB[e] = v;
+        ativa[e] = true;
+        esquerda[e] = NULO;
+        direita[e] = NULO;
+        pai[e] = NULO;
+        invertido[e] = false;
+        peso[e] = pesoAresta;
+        maior[e] = e;
+
+        ligar(u, e);
+        ligar(e, v);
+        numArestas++;
+        pesoTotal = pesoTotal + pesoAresta;
+    }
+
+    private void cortarAresta(int e) {
+        cortar(e, extremoA[e]);
+        cortar(e, extremoB[e]);
+        numArestas--;
+        pesoTotal = pesoTotal - peso[e];
+
+        ativa[e] = false;
+        peso[e] = Integer.MIN_VALUE;
+        extremoA[e] = livres;
+        livres = e;
+    }
+
+    // ------------------------------------------------------------------
+    // Consultas
+    // ------------------------------------------------------------------
+
+    public long obterPesoTotal() {
+        return pesoTotal;
+    }
+
+    public int obterNumArestas() {
+        return numArestas;
+    }
+
+    public boolean conectados(int u, int v) {
+        return encontrarRaiz(u) == encontrarRaiz(v);
+    }
+
+    // Peso da aresta mais pesada no caminho u..v da árvore (u e v precisam estar conectados)
+    public int pesoMaximoNoCaminho(int u, int v) {
+        tornarRaiz(u);
+        acessar(v);
+        return peso[maior[v]];
+    }
+
+    public void imprimirResultado() {
+        System.out.println("Arvore Geradora Minima (dinamica):");
+        System.out.println("Aresta \t\tPeso");
+        for (int e = numVertices; e < 2 * numVertices; e++) {
+            if (ativa[e]) {
+                System.out.println(extremoA[e] + " - " + extremoB[e] + "\t\t" + peso[e]);
+            }
+        }
+        System.out.println("\nPeso total da MST: " + pesoTotal);
+    }
+
+    // ------------------------------------------------------------------
+    // Link-cut tree
+    // ------------------------------------------------------------------
+
+    private boolean ehRaizSplay(int x) {
+        int p = pai[x];
+        return p == NULO || (esquerda[p] != x && direita[p] != x);
+    }
+
+    // Aplica a inversão pendente de x aos seus filhos
+    private void propagar(int x) {
+        if (invertido[x]) {
+            int temp = esquerda[x];
+            esquerda[x] = direita[x];
+            direita[x] = temp;
+            if (esquerda[x] != NULO) {
+                invertido[esquerda[x]] = !invertido[esquerda[x]];
+            }
+            if (direita[x] != NULO) {
+                invertido[direita[x]] = !invertido[direita[x]];
+            }
+            invertido[x] = false;
+        }
+    }
+
+    private void atualizar(int x) {
+        int m = x;
+        if (esquerda[x] != NULO && peso[maior[esquerda[x]]] > peso[m]) {
+            m = maior[esquerda[x]];
+        }
+        if (direita[x] != NULO && peso[maior[direita[x]]] > peso[m]) {
+            m = maior[direita[x]];
+        }
+        maior[x] = m;
+    }
+
+    private void rotacionar(int x) {
+        int p = pai[x];
+        int g = pai[p];
+        boolean pEhRaiz = ehRaizSplay(p);
+
+        if (esquerda[p] == x) {
+            esquerda[p] = direita[x];
+            if (direita[x] != NULO) {
+                pai[direita[x]] = p;
+            }
+            direita[x] = p;
+        } else {
+            direita[p] = esquerda[x];
+            if (esquerda[x] != NULO) {
+                pai[esquerda[x]] = p;
+            }
+            esquerda[x] = p;
+        }
+        pai[p] = x;
+        pai[x] = g;
+
+        if (!pEhRaiz) {
+            if (esquerda[g] == p) {
+                esquerda[g] = x;
+            } else {
+                direita[g] = x;
+            }
+        }
+        atualizar(p);
+        atualizar(x);
+    }
+
+    // Leva x à raiz da sua splay tree
+    private void splay(int x) {
+        // Propaga as inversões pendentes de cima para baixo antes de rotacionar
+        int topo = 0;
+        int y = x;
+        pilha[topo] = y;
+        topo++;
+        while (!ehRaizSplay(y)) {
+            y = pai[y];
+            pilha[topo] = y;
+            topo++;
+        }
+        while (topo > 0) {
+            topo--;
+            propagar(pilha[topo]);
+        }
+
+        while (!ehRaizSplay(x)) {
+            int p = pai[x];
+            if (!ehRaizSplay(p)) {
+                int g = pai[p];
+                boolean zigZig = (esquerda[g] == p) == (esquerda[p] == x);
+                if (zigZig) {
+                    rotacionar(p);
+                } else {
+                    rotacionar(x);
+                }
+            }
+            rotacionar(x);
+        }
+    }
+
+    // Torna o caminho da raiz da árvore até x o caminho preferido, com x na raiz da splay
+    private void acessar(int x) {
+        int ultimo = NULO;
+        for (int y = x; y != NULO; y = pai[y]) {
+            splay(y);
+            direita[y] = ultimo;
+            atualizar(y);
+            ultimo = y;
+        }
+        splay(x);
+    }
+
+    private void tornarRaiz(int x) {
+        acessar(x);
+        invertido[x] = !invertido[x];
+    }
+
+    private int encontrarRaiz(int x) {
+        acessar(x);
+        propagar(x);
+        while (esquerda[x] != NULO) {
+            x = esquerda[x];
+            propagar(x);
+        }
+        splay(x);
+        return x;
+    }
+
+    private void ligar(int x, int y) {
+        tornarRaiz(x);
+        pai[x] = y;
+    }
+
+    // Remove a ligação entre os nós vizinhos x e y
+    private void cortar(int x, int y) {
+        tornarRaiz(x);
+        acessar(y);
+        // y está na raiz da splay e x, vizinho no caminho, é o seu filho esquerdo
+        pai[esquerda[y]] = NULO;
+        esquerda[y] = NULO;
+        atualizar(y);
+    }
+}
@@ -0,0 +1,220 @@
+package com.application;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Árvore geradora mínima pelo algoritmo de Borůvka, com cada rodada em paralelo (fork/join).
+// Em cada rodada todo componente escolhe a aresta mais leve que sai dele e todas essas
+// arestas entram na árvore de uma vez; o número de componentes cai pelo menos pela metade,
+// então há no máximo log V rodadas, cada uma O(V + E) dividida entre os núcleos.
+//
+// Empates são desfeitos pela ordem total (peso, menor extremo, maior extremo), que faz
+// as arestas escolhidas nunca formarem ciclo. A união-busca concorrente descarta a mesma
+// aresta escolhida pelos dois componentes que ela liga.
+//
+// O resultado é enraizado no vértice 0 e impresso no mesmo formato do Prim, que continua
+// sendo a implementação de referência para conferência.
+class BoruvkaParalelo {
+    private static final int TAMANHO_MINIMO_TAREFA = 4096;
+
+    private Grafo grafo;          // Grafo não direcionado (cada aresta nos dois sentidos)
+    private int numVertices;
+    private ForkJoinPool pool;
+    private int[] origem;         // Vértice de saída de cada aresta do CSR
+    private int[] pai;            // Pai de cada vértice na árvore enraizada em 0
+    private int[] chave;          // Peso da aresta até o pai
+
+    public BoruvkaParalelo(Grafo grafo) {
+        this(grafo, ForkJoinPool.commonPool());
+    }
+
+    public BoruvkaParalelo(Grafo grafo, ForkJoinPool pool) {
+        this.grafo = grafo;
+        this.numVertices = grafo.numVertices();
+        this.pool = pool;
+    }
+
+    public void executar() {
+        calcular();
+        imprimirResultado();
+    }
+
+    public void calcular() {
+        final int n = numVertices;
+        final int m = grafo.numArestas();
+
+        // Origem de cada aresta (o CSR só guarda o destino)
+        origem = new int[m];
+        ExecucaoParalela.paraCada(pool, 0, n, TAMANHO_MINIMO_TAREFA, (inicio, fim) -> {
+            for (int u = inicio; u < fim; u++) {
+                int ultima = grafo.fim(u);
+                for (int i = grafo.inicio(u); i < ultima; i++) {
+                    origem[i] = u;
+                }
+            }
+        });
+
+        final UniaoBuscaConcorrente componentes = new UniaoBuscaConcorrente(n);
+        final int[] raiz = new int[n];                        // Componente de cada vértice na rodada
+        final AtomicIntegerArray melhor = new AtomicIntegerArray(n); // Aresta mais leve de cada componente
+        final int[] escolhidas = new int[n];                  // Arestas da árvore (índices do CSR)
+        final AtomicInteger quantidade = new AtomicInteger(0);
+
+        while (true) {
+            int antes = quantidade.get();
+
+            // Fase 1: fixa o componente de cada vértice e limpa as escolhas
+            ExecucaoParalela.paraCada(pool, 0, n, TAMANHO_MINIMO_TAREFA, (inicio, fim) -> {
+                for (int u = inicio; u < fim; u++) {
+                    raiz[u] = componentes.buscar(u);
+                    melhor.set(u, -1);
+                }
+            });
+
+            // Fase 2: cada vértice procura sua aresta mais leve para fora do componente
+            // e a propõe ao componente com compareAndSet
+            ExecucaoParalela.paraCada(pool, 0, n, TAMANHO_MINIMO_TAREFA, (inicio, fim) -> {
+                for (int u = inicio; u < fim; u++) {
+                    int ru = raiz[u];
+                    int candidata = -1;
+                    int ultima = grafo.fim(u);
+                    for (int i = grafo.inicio(u); i < ultima; i++) {
+                        if (raiz[grafo.destino(i)] != ru && (candidata == -1 || precede(i, candidata))) {
+                            candidata = i;
+                        }
+                    }
+
+                    if (candidata != -1) {
+                        while (true) {
+                            int atual = melhor.get(ru);
+                            if (atual != -1 && !precede(candidata, atual)) {
+                                break;
+                            }
+                            if (melhor.compareAndSet(ru, atual, candidata)) {
+                                break;
+                            }
+                        }
+                    }
+                }
+            });
+
+            // Fase 3: as arestas escolhidas unem os componentes
+            ExecucaoParalela.paraCada(pool, 0, n, TAMANHO_MINIMO_TAREFA, (inicio, fim) -> {
+                for (int r = inicio; r < fim; r++) {
+                    int aresta = melhor.get(r);
+                    if (aresta != -1 && componentes.unir(origem[aresta], grafo.destino(aresta))) {
+                        escolhidas[quantidade.getAndIncrement()] = aresta;
+                    }
+                }
+            });
+
+            // Nenhuma união: cada componente restante já está completo
+            if (quantidade.get() == antes) {
+                break;
+            }
+        }
+
+        enraizar(escolhidas, quantidade.get());
+    }
+
+    // Ordem total entre arestas: peso, depois menor extremo, depois maior extremo
+    private boolean precede(int a, int b) {
+        int pesoA = grafo.peso(a);
+        int pesoB = grafo.peso(b);
+        if (pesoA != pesoB) {
+            return pesoA < pesoB;
+        }
+        return chaveExtremos(a) < chaveExtremos(b);
+    }
+
+    private long chaveExtremos(int aresta) {
+        int u = origem[aresta];
+        int v = grafo.destino(aresta);
+        if (u > v) {
+            int temp = u;
+            u = v;
+            v = temp;
+        }
+        return ((long) u << 32) | v;
+    }
+
+    // Converte a lista de arestas da árvore em pai/chave com raiz no vértice 0
+    // (e em cada vértice não alcançado, se o grafo for desconexo)
+    private void enraizar(int[] escolhidas, int quantidade) {
+        ConstrutorGrafo construtor = new ConstrutorGrafo(numVertices, 2 * quantidade + 1);
+        for (int k = 0; k < quantidade; k++) {
+            int aresta = escolhidas[k];
+            construtor.adicionarArestaNaoDirecionada(origem[aresta], grafo.destino(aresta), grafo.peso(aresta));
+        }
+        GrafoCSR arvore = construtor.construir();
+
+        pai = new int[numVertices];
+        chave = new int[numVertices];
+        boolean[] visitado = new boolean[numVertices];
+        int[] fila = new int[numVertices];
+
+        for (int i = 0; i < numVertices; i++) {
+            pai[i] = -1;
+            chave[i] = Integer.MAX_VALUE;
+        }
+
+        for (int r = 0; r < numVertices; r++) {
+            if (visitado[r]) {
+                continue;
+            }
+
+            // Busca em largura a partir de r
+            visitado[r] = true;
+            if (r == 0) {
+                chave[r] = 0;
+            }
+            int inicioFila = 0;
+            int fimFila = 0;
+            fila[fimFila] = r;
+            fimFila++;
+
+            while (inicioFila < fimFila) {
+                int u = fila[inicioFila];
+                inicioFila++;
+                int ultima = arvore.fim(u);
+                for (int i = arvore.inicio(u); i < ultima; i++) {
+                    int v = arvore.destino(i);
+                    if (!visitado[v]) {
+                        visitado[v] = true;
+                        pai[v] = u;
+                        chave[v] = arvore.peso(i);
+                        fila[fimFila] = v;
+                        fimFila++;
+                    }
+                }
+            }
+        }
+    }
+
+    public int[] obterPais() {
+        return pai;
+    }
+
+    public int[] obterChaves() {
+        return chave;
+    }
+
+    private void imprimirResultado() {
+        long pesoTotal = 0; // 64 bits: a soma de muitos pesos int pode estourar
+
+        System.out.println("Arvore Geradora Minima (Algoritmo de Boruvka paralelo):");
+        System.out.println("Aresta \t\tPeso");
+
+        for (int i = 1; i < numVertices; i++) {
+            // Em grafo desconexo a raiz de cada componente não tem aresta até um pai
+            if (pai[i] == -1) {
+                continue;
+            }
+            System.out.println(pai[i] + " - " + i + "\t\t" + chave[i]);
+            pesoTotal = pesoTotal + chave[i];
+        }
+
+        System.out.println("\nPeso total da MST: " + pesoTotal);
+    }
+}
@@ -0,0 +1,214 @@
+package com.application;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Leitura do formato de entrada das questões 2 e 3 (n na primeira linha, depois
+// a matriz n x n) direto dos bytes de um arquivo mapeado em memória.
+// Não cria nenhuma String por número: os dígitos são convertidos enquanto são lidos,
+// então o tempo de carga fica limitado pela leitura do disco.
+// O grafo pode ser entregue como matriz densa ou, sem nunca alocar a matriz,
+// como GrafoCSR contendo apenas as células não nulas.
+class CarregadorGrafo {
+
+    // Lê o arquivo e monta a matriz de adjacência completa
+    public static int[][] lerMatriz(String caminho) throws IOException {
+        LeitorMapeado leitor = new LeitorMapeado(caminho);
+        try {
+            int n = lerQuantidadeVertices(leitor);
+            int[][] matriz = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    matriz[i][j] = leitor.proximoInteiro();
+                }
+            }
+            return matriz;
+        } finally {
+            leitor.fechar();
+        }
+    }
+
+    // Lê o arquivo e emite cada célula não nula como aresta i -> j de um GrafoCSR
+    // (0 indica ausência de aresta no formato de entrada)
+    public static GrafoCSR lerGrafo(String caminho) throws IOException {
+        LeitorMapeado leitor = new LeitorMapeado(caminho);
+        try {
+            int n = lerQuantidadeVertices(leitor);
+            ConstrutorGrafo construtor = new ConstrutorGrafo(n);
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    int peso = leitor.proximoInteiro();
+                    if (peso != 0) {
+                        construtor.adicionarAresta(i, j, peso);
+                    }
+                }
+            }
+            return construtor.construir();
+        } finally {
+            leitor.fechar();
+        }
+    }
+
+    // Lê uma lista de arestas: k na primeira linha, depois k linhas "u v peso".
+    // Retorna os valores em sequência (u, v e peso da aresta i em 3i, 3i + 1 e 3i + 2).
+    public static int[] lerListaArestas(String caminho) throws IOException {
+        LeitorMapeado leitor = new LeitorMapeado(caminho);
+        try {
+            int k = leitor.proximoInteiro();
+            if (k < 0 || k > Integer.MAX_VALUE / 3) {
+                throw new IOException("Quantidade de arestas invalida: " + k);
+            }
+            int[] valores = new int[3 * k];
+            for (int i = 0; i < valores.length; i++) {
+                valores[i] = leitor.proximoInteiro();
+            }
+            return valores;
+        } finally {
+            leitor.fechar();
+        }
+    }
+
+    private static int lerQuantidadeVertices(LeitorMapeado leitor) throws IOException {
+        int n = leitor.proximoInteiro();
+        if (n < 0) {
+            throw new IOException("Quantidade de vertices invalida: " + n);
+        }
+        return n;
+    }
+}
+
+// Percorre um arquivo de texto mapeado em janelas e extrai inteiros em sequência.
+// Um único MappedByteBuffer não passa de 2 GB, então o arquivo é mapeado em janelas
+// consecutivas; quando um número pode atravessar o fim da janela, a próxima janela
+// começa exatamente no início dele.
+class LeitorMapeado {
+    private static final long TAMANHO_JANELA = 64L * 1024 * 1024;
+    private static final int MAIOR_NUMERO = 16; // bytes suficientes para qualquer int com sinal
+
+    private FileChannel canal;          // Arquivo aberto somente para leitura
+    private long tamanhoArquivo;        // Tamanho total em bytes
+    private long inicioJanela;          // Posição no arquivo do primeiro byte da janela
+    private MappedByteBuffer janela;    // Trecho mapeado atualmente
+    private int limite;                 // Quantidade de bytes válidos na janela
+    private int pos;                    // Posição de leitura dentro da janela
+
+    public LeitorMapeado(String caminho) throws IOException {
+        canal = FileChannel.open(Paths.get(caminho), StandardOpenOption.READ);
+        // Se o primeiro mapeamento falhar o canal não chega a ser devolvido: fecha aqui
+        boolean aberto = false;
+        try {
+            tamanhoArquivo = canal.size();
+            mapear(0);
+            aberto = true;
+        } finally {
+            if (!aberto) {
+                canal.close();
+            }
+        }
+    }
+
+    // Mapeia a janela que começa na posição informada do arquivo
+    private void mapear(long inicio) throws IOException {
+        long tamanho = tamanhoArquivo - inicio;
+        if (tamanho > TAMANHO_JANELA) {
+            tamanho = TAMANHO_JANELA;
+        }
+        inicioJanela = inicio;
+        janela = canal.map(FileChannel.MapMode.READ_ONLY, inicio, tamanho);
+        limite = (int) tamanho;
+        pos = 0;
+    }
+
+    private boolean janelaEhUltima() {
+        return inicioJanela + limite >= tamanhoArquivo;
+    }
+
+    private static boolean ehEspaco(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    // Lê o próximo inteiro do arquivo. Como no Scanner.nextInt, aceita sinal ("-" ou "+")
+    // e zeros à esquerda, que não contam no limite de 10 dígitos de um int.
+    public int proximoInteiro() throws IOException {
+        // Pula espaços e quebras de linha, trocando de janela se necessário
+        while (true) {
+            if (pos == limite) {
+                if (janelaEhUltima()) {
+                    throw new IOException("Fim de arquivo inesperado: faltam valores");
+                }
+                mapear(inicioJanela + pos);
+            }
+            if (!ehEspaco(janela.get(pos))) {
+                break;
+            }
+            pos++;
+        }
+
+        // Garante que o número inteiro cabe na janela atual
+        if (limite - pos < MAIOR_NUMERO && !janelaEhUltima()) {
+            mapear(inicioJanela + pos);
+        }
+
+        boolean negativo = false;
+        if (janela.get(pos) == '-') {
+            negativo = true;
+            pos++;
+        } else if (janela.get(pos) == '+') {
+            pos++;
+        }
+
+        // Zeros à esquerda não mudam o valor; podem ser muitos, então trocam de janela
+        // como os espaços e só os dígitos significativos precisam caber na janela
+        boolean temZero = false;
+        while (true) {
+            if (pos == limite) {
+                if (janelaEhUltima()) {
+                    break;
+                }
+                mapear(inicioJanela + pos);
+            }
+            if (janela.get(pos) != '0') {
+                break;
+            }
+            temZero = true;
+            pos++;
+        }
+        if (limite - pos < MAIOR_NUMERO && !janelaEhUltima()) {
+            mapear(inicioJanela + pos);
+        }
+
+        long valor = 0;
+        int digitos = 0;
+        while (pos < limite) {
+            int b = janela.get(pos) - '0';
+            if (b < 0 || b > 9) {
+                break;
+            }
+            valor = valor * 10 + b;
+            digitos++;
+            pos++;
+            if (digitos > 10) {
+                break;
+            }
+        }
+
+        if ((digitos == 0 && !temZero) || digitos > 10 || (pos < limite && !ehEspaco(janela.get(pos)))) {
+            throw new IOException("Valor invalido na posicao " + (inicioJanela + pos) + " do arquivo");
+        }
+
+        if (negativo) {
+            valor = -valor;
+        }
+        if (valor < Integer.MIN_VALUE || valor > Integer.MAX_VALUE) {
+            throw new IOException("Valor fora do intervalo de int na posicao " + (inicioJanela + pos));
+        }
+        return (int) valor;
+    }
+
+    public void fechar() throws IOException {
+        canal.close();
+    }
+}
@@ -0,0 +1,98 @@
+package com.application;
+
+// Construtor incremental de GrafoCSR a partir de um fluxo de arestas.
+// As arestas são acumuladas em vetores que dobram de tamanho quando enchem
+// e só no final são distribuídas no formato CSR. Diferente da matriz de adjacência,
+// a existência da aresta é explícita, então arestas de peso 0 são suportadas.
+class ConstrutorGrafo {
+    private int numVertices;   // Quantidade de vértices
+    private int numArestas;    // Arestas acumuladas até agora
+    private int[] origens;     // Vértice de saída de cada aresta
+    private int[] destinos;    // Vértice de chegada de cada aresta
+    private int[] pesos;       // Peso de cada aresta
+
+    public ConstrutorGrafo(int numVertices) {
+        this(numVertices, 16);
+    }
+
+    public ConstrutorGrafo(int numVertices, int capacidadeInicial) {
+        if (capacidadeInicial < 1) {
+            capacidadeInicial = 1;
+        }
+        this.numVertices = numVertices;
+        this.numArestas = 0;
+        this.origens = new int[capacidadeInicial];
+        this.destinos = new int[capacidadeInicial];
+        this.pesos = new int[capacidadeInicial];
+    }
+
+    // Adiciona a aresta direcionada u -> v
+    public void adicionarAresta(int u, int v, int peso) {
+        if (u < 0 || u >= numVertices || v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Aresta fora do intervalo de vertices: " + u + " - " + v);
+        }
+
+        if (numArestas == origens.length) {
+            int capacidade = origens.length * 2;
+            origens = crescer(origens, capacidade);
+            destinos = crescer(destinos, capacidade);
+            pesos = crescer(pesos, capacidade);
+        }
+
+        origens[numArestas] = u;
+        destinos[numArestas] = v;
+        pesos[numArestas] = peso;
+        numArestas++;
+    }
+
+    // Adiciona a aresta nos dois sentidos (grafo não direcionado)
+    public void adicionarArestaNaoDirecionada(int u, int v, int peso) {
+        adicionarAresta(u, v, peso);
+        adicionarAresta(v, u, peso);
+    }
+
+    public int numArestas() {
+        return numArestas;
+    }
+
+    public GrafoCSR construir() {
+        return new GrafoCSR(numVertices, origens, destinos, pesos, numArestas);
+    }
+
+    // Converte uma matriz de adjacência, onde 0 indica ausência de aresta
+    public static GrafoCSR deMatriz(int[][] matriz, int numVertices) {
+        ConstrutorGrafo construtor = new ConstrutorGrafo(numVertices);
+        for (int i = 0; i < numVertices; i++) {
+            for (int j = 0; j < numVertices; j++) {
+                if (matriz[i][j] != 0) {
+                    construtor.adicionarAresta(i, j, matriz[i][j]);
+                }
+            }
+        }
+        return construtor.construir();
+    }
+
+    // Grafo com todas as arestas invertidas (v -> u para cada u -> v).
+    // Funciona como índice de arestas de entrada: os vizinhos de v no inverso
+    // são os vértices que chegam em v no grafo original.
+    public static GrafoCSR inverso(Grafo grafo) {
+        int n = grafo.numVertices();
+        ConstrutorGrafo construtor = new ConstrutorGrafo(n, grafo.numArestas());
+        for (int u = 0; u < n; u++) {
+            int fim = grafo.fim(u);
+            for (int i = grafo.inicio(u); i < fim; i++) {
+                construtor.adicionarAresta(grafo.destino(i), u, grafo.peso(i));
+            }
+        }
+        return construtor.construir();
+    }
+
+    // Copia o vetor para um novo com a capacidade informada
+    private static int[] crescer(int[] vetor, int capacidade) {
+        int[] novo = new int[capacidade];
+        for (int i = 0; i < vetor.length; i++) {
+            novo[i] = vetor[i];
+        }
+        return novo;
+    }
+}
@@ -0,0 +1,416 @@
+package com.application;
+
+import java.io.IOException;
+
+// Pré-processamento de uma hierarquia de contração (contraction hierarchy) para um
+// grafo direcionado. Os vértices são contraídos um a um, do menos importante ao mais
+// importante; contrair v significa retirá-lo do grafo e, para cada par u -> v -> w,
+// criar o atalho u -> w quando nenhum outro caminho (a "testemunha") é tão curto
+// quanto ele. Assim as distâncias entre os vértices restantes são preservadas.
+//
+// A ordem é escolhida por uma heap de prioridades com atualização preguiçosa: ao sair
+// da heap a prioridade do vértice é recalculada e, se piorou, ele volta para a heap.
+// A prioridade combina a diferença de arestas (atalhos criados menos arestas removidas),
+// a quantidade de vizinhos já contraídos e a profundidade na hierarquia, o que espalha
+// as contrações pelo grafo e mantém a hierarquia rasa.
+//
+// A busca de testemunha é um Dijkstra local limitado em vértices definidos (menos na
+// simulação usada pela prioridade, que só precisa de uma estimativa); quando o limite
+// é atingido o atalho é criado mesmo assim, o que só custa arestas a mais.
+// As distâncias precisam caber em int, como na ConsultaCaminho.
+class ConstrutorHierarquia {
+    private static final int INFINITO = Integer.MAX_VALUE;
+    private static final int LIMITE_TESTEMUNHA = 500;
+    private static final int LIMITE_SIMULACAO = 50;
+
+    private int numVertices;
+
+    // Arestas originais e atalhos
+    private int numArestas;
+    private int[] origemAresta;
+    private int[] destinoAresta;
+    private int[] pesoAresta;
+    private int[] meioAresta;     // Vértice contraído que o atalho substitui (-1 se original)
+
+    // Listas de índices de arestas que saem e que chegam em cada vértice
+    private int[][] saida;
+    private int[] grauSaida;
+    private int[][] entrada;
+    private int[] grauEntrada;
+
+    private boolean[] contraido;
+    private int[] nivel;               // Ordem de contração
+    private int[] vizinhosContraidos;
+    private int[] profundidade;        // Maior nível de hierarquia abaixo do vértice
+
+    // Busca de testemunha (reiniciada por carimbo de geração)
+    private int[] distancia;
+    private int[] carimbo;
+    private int geracao;
+    private MinHeapPrimitiva heapTestemunha;
+
+    public ConstrutorHierarquia(Grafo grafo) {
+        numVertices = grafo.numVertices();
+        int n = numVertices;
+
+        int capacidade = grafo.numArestas() + 16;
+        origemAresta = new int[capacidade];
+        destinoAresta = new int[capacidade];
+        pesoAresta = new int[capacidade];
+        meioAresta = new int[capacidade];
+
+        saida = new int[n][];
+        entrada = new int[n][];
+        grauSaida = new int[n];
+        grauEntrada = new int[n];
+        for (int v = 0; v < n; v++) {
+            saida[v] = new int[4];
+            entrada[v] = new int[4];
+        }
+
+        contraido = new boolean[n];
+        nivel = new int[n];
+        vizinhosContraidos = new int[n];
+        profundidade = new int[n];
+        distancia = new int[n];
+        carimbo = new int[n];
+        heapTestemunha = new MinHeapPrimitiva(n);
+
+        // Copia as arestas mantendo só a mais leve entre cada par e descartando laços.
+        // arestaPara[w] guarda a aresta u -> w já vista, válida se origemVista[w] == u.
+        int[] arestaPara = new int[n];
+        int[] origemVista = new int[n];
+        for (int w = 0; w < n; w++) {
+            origemVista[w] = -1;
+        }
+        for (int u = 0; u < n; u++) {
+            int fim = grafo.fim(u);
+            for (int i = grafo.inicio(u); i < fim; i++) {
+                int w = grafo.destino(i);
+                int peso = grafo.peso(i);
+                if (w == u) {
+                    continue;
+                }
+                if (origemVista[w] == u) {
+                    if (peso < pesoAresta[arestaPara[w]]) {
+                        pesoAresta[arestaPara[w]] = peso;
+                    }
+                } else {
+                    origemVista[w] = u;
+                    arestaPara[w] = novaAresta(u, w, peso, -1);
+                }
+            }
+        }
+    }
+
+    // Executa todo o pré-processamento
+    public static HierarquiaContracao construir(Grafo grafo) {
+        return new ConstrutorHierarquia(grafo).contrair();
+    }
+
+    public HierarquiaContracao contrair() {
+        MinHeapPrimitiva ordem = new MinHeapPrimitiva(numVertices);
+        for (int v = 0; v < numVertices; v++) {
+            ordem.inserir(v, prioridade(v));
+        }
+
+        int proximoNivel = 0;
+        while (!ordem.estaVazio()) {
+            int v = ordem.extrairMinimo();
+
+            // Atualização preguiçosa: se a prioridade piorou, outro vértice passa na frente
+            int atual = prioridade(v);
+            if (!ordem.estaVazio() && atual > ordem.chaveMinima()) {
+                ordem.inserir(v, atual);
+                continue;
+            }
+
+            processar(v, false);
+            contraido[v] = true;
+            nivel[v] = proximoNivel;
+            proximoNivel++;
+
+            // As arestas de v saem das listas dos vizinhos, então as listas só guardam
+            // arestas entre vértices ainda não contraídos e as buscas não as revisitam
+            for (int k = 0; k < grauSaida[v]; k++) {
+                int aresta = saida[v][k];
+                int w = destinoAresta[aresta];
+                marcarVizinho(w, v);
+                grauEntrada[w] = retirar(entrada[w], grauEntrada[w], aresta);
+            }
+            for (int k = 0; k < grauEntrada[v]; k++) {
+                int aresta = entrada[v][k];
+                int u = origemAresta[aresta];
+                marcarVizinho(u, v);
+                grauSaida[u] = retirar(saida[u], grauSaida[u], aresta);
+            }
+        }
+
+        return montar();
+    }
+
+    // Retira a aresta da lista (trocando pela última) e devolve o novo tamanho
+    private static int retirar(int[] lista, int tamanho, int aresta) {
+        for (int k = 0; k < tamanho; k++) {
+            if (lista[k] == aresta) {
+                lista[k] = lista[tamanho - 1];
+                return tamanho - 1;
+            }
+        }
+        return tamanho;
+    }
+
+    private void marcarVizinho(int x, int v) {
+        if (!contraido[x]) {
+            vizinhosContraidos[x]++;
+            if (profundidade[v] + 1 > profundidade[x]) {
+                profundidade[x] = profundidade[v] + 1;
+            }
+        }
+    }
+
+    private int prioridade(int v) {
+        int removidas = 0;
+        for (int k = 0; k < grauSaida[v]; k++) {
+            if (!contraido[destinoAresta[saida[v][k]]]) {
+                removidas++;
+            }
+        }
+        for (int k = 0; k < grauEntrada[v]; k++) {
+            if (!contraido[origemAresta[entrada[v][k]]]) {
+                removidas++;
+            }
+        }
+
+        int atalhos = processar(v, true);
+        return 2 * (atalhos - removidas) + vizinhosContraidos[v] + profundidade[v];
+    }
+
+    // Percorre os pares u -> v -> w ainda ativos e conta (simular = true) ou cria os atalhos
+    private int processar(int v, boolean simular) {
+        int atalhos = 0;
+
+        for (int a = 0; a < grauEntrada[v]; a++) {
+            int arestaEntrada = entrada[v][a];
+            int u = origemAresta[arestaEntrada];
+            if (contraido[u]) {
+                continue;
+            }
+
+            // Distância máxima que a testemunha precisa cobrir
+            long maior = -1;
+            for (int b = 0; b < grauSaida[v]; b++) {
+                int arestaSaida = saida[v][b];
+                int w = destinoAresta[arestaSaida];
+                if (contraido[w] || w == u) {
+                    continue;
+                }
+                long viaV = (long) pesoAresta[arestaEntrada] + pesoAresta[arestaSaida];
+                if (viaV > maior) {
+                    maior = viaV;
+                }
+            }
+            if (maior < 0) {
+                continue;
+            }
+
+            buscarTestemunhas(u, v, maior, simular ? LIMITE_SIMULACAO : LIMITE_TESTEMUNHA);
+
+            for (int b = 0; b < grauSaida[v]; b++) {
+                int arestaSaida = saida[v][b];
+                int w = destinoAresta[arestaSaida];
+                if (contraido[w] || w == u) {
+                    continue;
+                }
+                long viaV = (long) pesoAresta[arestaEntrada] + pesoAresta[arestaSaida];
+                if (viaV >= INFINITO) {
+                    continue; // não cabe em int
+                }
+                if (distanciaDe(w) > viaV) {
+                    atalhos++;
+                    if (!simular) {
+                        adicionarAtalho(u, w, (int) viaV, v);
+                    }
+                }
+            }
+        }
+        return atalhos;
+    }
+
+    // Dijkstra local a partir de u que ignora v e os vértices contraídos,
+    // parando ao passar de limite ou de maximoDefinidos vértices definidos
+    private void buscarTestemunhas(int u, int ignorado, long limite, int maximoDefinidos) {
+        geracao++;
+        heapTestemunha.limpar();
+
+        carimbo[u] = geracao;
+        distancia[u] = 0;
+        heapTestemunha.inserir(u, 0);
+
+        int definidos = 0;
+        while (!heapTestemunha.estaVazio() && heapTestemunha.chaveMinima() <= limite
+                && definidos < maximoDefinidos) {
+            int x = heapTestemunha.extrairMinimo();
+            definidos++;
+
+            for (int k = 0; k < grauSaida[x]; k++) {
+                int aresta = saida[x][k];
+                int y = destinoAresta[aresta];
+                if (y == ignorado || contraido[y]) {
+                    continue;
+                }
+                long novaDistancia = (long) distancia[x] + pesoAresta[aresta];
+                if (novaDistancia < distanciaDe(y)) {
+                    distancia[y] = (int) novaDistancia;
+                    if (carimbo[y] == geracao) {
+                        heapTestemunha.diminuirChave(y, distancia[y]);
+                    } else {
+                        carimbo[y] = geracao;
+                        heapTestemunha.inserir(y, distancia[y]);
+                    }
+                }
+            }
+        }
+    }
+
+    private int distanciaDe(int v) {
+        return carimbo[v] == geracao ? distancia[v] : INFINITO;
+    }
+
+    // Cria o atalho u -> w ou melhora a aresta u -> w que já existe
+    private void adicionarAtalho(int u, int w, int peso, int meio) {
+        for (int k = 0; k < grauSaida[u]; k++) {
+            int aresta = saida[u][k];
+            if (destinoAresta[aresta] == w) {
+                if (peso < pesoAresta[aresta]) {
+                    pesoAresta[aresta] = peso;
+                    meioAresta[aresta] = meio;
+                }
+                return;
+            }
+        }
+        novaAresta(u, w, peso, meio);
+    }
+
+    private int novaAresta(int u, int w, int peso, int meio) {
+        if (numArestas == origemAresta.length) {
+            int capacidade = origemAresta.length * 2;
+            origemAresta = crescer(origemAresta, capacidade);
+            destinoAresta = crescer(destinoAresta, capacidade);
+            pesoAresta = crescer(pesoAresta, capacidade);
+            meioAresta = crescer(meioAresta, capacidade);
+        }
+
+        int aresta = numArestas;
+        origemAresta[aresta] = u;
+        destinoAresta[aresta] = w;
+        pesoAresta[aresta] = peso;
+        meioAresta[aresta] = meio;
+        numArestas++;
+
+        if (grauSaida[u] == saida[u].length) {
+            saida[u] = crescer(saida[u], saida[u].length * 2);
+        }
+        saida[u][grauSaida[u]] = aresta;
+        grauSaida[u]++;
+
+        if (grauEntrada[w] == entrada[w].length) {
+            entrada[w] = crescer(entrada[w], entrada[w].length * 2);
+        }
+        entrada[w][grauEntrada[w]] = aresta;
+        grauEntrada[w]++;
+
+        return aresta;
+    }
+
+    private static int[] crescer(int[] vetor, int capacidade) {
+        int[] novo = new int[capacidade];
+        for (int i = 0; i < vetor.length; i++) {
+            novo[i] = vetor[i];
+        }
+        return novo;
+    }
+
+    // Separa todas as arestas em subida (na lista da origem) e descida (na lista do destino)
+    private HierarquiaContracao montar() {
+        int n = numVertices;
+        int[] inicioSubida = new int[n + 1];
+        int[] inicioDescida = new int[n + 1];
+        int totalSubida = 0;
+        for (int e = 0; e < numArestas; e++) {
+            if (nivel[origemAresta[e]] < nivel[destinoAresta[e]]) {
+                inicioSubida[origemAresta[e] + 1]++;
+                totalSubida++;
+            } else {
+                inicioDescida[destinoAresta[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            inicioSubida[v + 1] = inicioSubida[v + 1] + inicioSubida[v];
+            inicioDescida[v + 1] = inicioDescida[v + 1] + inicioDescida[v];
+        }
+
+        int totalDescida = numArestas - totalSubida;
+        int[] destinoSubida = new int[totalSubida];
+        int[] pesoSubida = new int[totalSubida];
+        int[] meioSubida = new int[totalSubida];
+        int[] origemDescida = new int[totalDescida];
+        int[] pesoDescida = new int[totalDescida];
+        int[] meioDescida = new int[totalDescida];
+
+        int[] cursorSubida = new int[n];
+        int[] cursorDescida = new int[n];
+        for (int v = 0; v < n; v++) {
+            cursorSubida[v] = inicioSubida[v];
+            cursorDescida[v] = inicioDescida[v];
+        }
+
+        for (int e = 0; e < numArestas; e++) {
+            int u = origemAresta[e];
+            int w = destinoAresta[e];
+            if (nivel[u] < nivel[w]) {
+                int pos = cursorSubida[u];
+                destinoSubida[pos] = w;
+                pesoSubida[pos] = pesoAresta[e];
+                meioSubida[pos] = meioAresta[e];
+                cursorSubida[u]++;
+            } else {
+                int pos = cursorDescida[w];
+                origemDescida[pos] = u;
+                pesoDescida[pos] = pesoAresta[e];
+                meioDescida[pos] = meioAresta[e];
+                cursorDescida[w]++;
+            }
+        }
+
+        return new HierarquiaContracao(n, nivel, inicioSubida, destinoSubida, pesoSubida, meioSubida,
+                inicioDescida, origemDescida, pesoDescida, meioDescida);
+    }
+
+    // Uso: java com.application.ConstrutorHierarquia entrada.txt|entrada.bin saida.ch
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Uso: ConstrutorHierarquia <entrada.txt|entrada.bin> <saida.ch>");
+            return;
+        }
+
+        try {
+            Grafo grafo;
+            if (args[0].endsWith(".bin")) {
+                grafo = ArquivoGrafoBinario.carregar(args[0]);
+            } else {
+                grafo = CarregadorGrafo.lerGrafo(args[0]);
+            }
+
+            long inicio = System.nanoTime();
+            HierarquiaContracao hierarquia = construir(grafo);
+            long tempo = (System.nanoTime() - inicio) / 1000000;
+            hierarquia.salvar(args[1]);
+
+            System.out.println("Hierarquia gerada em " + tempo + " ms: " + grafo.numArestas()
+                    + " arestas originais, " + hierarquia.numArestas() + " arestas com atalhos");
+        } catch (IOException e) {
+            System.out.println("Erro ao processar arquivo: " + e.getMessage());
+        }
+    }
+}
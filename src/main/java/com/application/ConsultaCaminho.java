@@ -0,0 +1,361 @@
+package com.application;
+
+// Consultas de menor caminho de uma origem até um destino em grafo direcionado.
+// Diferente do Dijkstra completo, a busca para assim que o destino fica definido,
+// então cada consulta processa apenas a região do grafo entre os dois vértices.
+// Três estratégias estão disponíveis:
+//   dijkstra      - Dijkstra com parada antecipada no destino
+//   bidirecional  - Dijkstra a partir da origem no grafo e a partir do destino no
+//                   grafo inverso, parando quando as duas fronteiras garantem o ótimo
+//   aEstrela      - A* guiado por uma Heuristica (por exemplo, MarcosALT)
+//
+// Os vetores de trabalho são alocados uma única vez e reaproveitados por carimbos de
+// geração: cada consulta incrementa a geração, e um valor só vale se o carimbo do
+// vértice for igual à geração atual. Assim nenhuma consulta reinicia vetores de
+// tamanho V nem aloca memória; as heaps também só recebem os vértices alcançados.
+// Uma instância não é segura para várias threads (o ServidorConsultas empresta uma a cada tarefa).
+// As distâncias precisam caber em int (Integer.MAX_VALUE indica inalcançável).
+class ConsultaCaminho {
+    private static final int INFINITO = Integer.MAX_VALUE;
+
+    private Grafo grafo;          // Grafo direcionado
+    private Grafo inverso;        // Arestas invertidas, criado na primeira busca bidirecional
+    private int numVertices;
+
+    private int geracao;          // Carimbo da consulta atual
+
+    // Busca a partir da origem
+    private int[] distancia;      // Válida só se alcancado[v] == geracao
+    private int[] pai;
+    private int[] alcancado;      // Geração em que v recebeu distância
+    private int[] definitivo;     // Geração em que a distância de v ficou definitiva
+    private MinHeapPrimitiva frente;
+
+    // Busca a partir do destino (no grafo inverso)
+    private int[] distanciaInversa;
+    private int[] paiInverso;     // Próximo vértice no caminho até o destino
+    private int[] alcancadoInverso;
+    private int[] definitivoInverso;
+    private MinHeapPrimitiva tras;
+
+    private int meio;             // Vértice onde as duas metades do caminho se encontram (-1 se não há caminho)
+    private int verticesVisitados; // Vértices definidos pela última consulta
+
+    public ConsultaCaminho(Grafo grafo) {
+        this(grafo, null);
+    }
+
+    // Permite reaproveitar um grafo inverso já construído com ConstrutorGrafo.inverso
+    public ConsultaCaminho(Grafo grafo, Grafo inverso) {
+        this.grafo = grafo;
+        this.inverso = inverso;
+        this.numVertices = grafo.numVertices();
+
+        distancia = new int[numVertices];
+        pai = new int[numVertices];
+        alcancado = new int[numVertices];
+        definitivo = new int[numVertices];
+        distanciaInversa = new int[numVertices];
+        paiInverso = new int[numVertices];
+        alcancadoInverso = new int[numVertices];
+        definitivoInverso = new int[numVertices];
+        frente = new MinHeapPrimitiva(numVertices);
+        tras = new MinHeapPrimitiva(numVertices);
+
+        geracao = 0; // os vetores começam zerados, então nenhum vértice vale na geração 1
+        meio = -1;
+    }
+
+    // Começa uma nova consulta: basta trocar a geração
+    private void reiniciar(int origem, int destino) {
+        if (origem < 0 || origem >= numVertices || destino < 0 || destino >= numVertices) {
+            throw new IllegalArgumentException("Vertice fora do intervalo: " + origem + " -> " + destino);
+        }
+
+        // Depois de 2^31 consultas os carimbos recomeçam (único caso que custa O(V))
+        if (geracao == Integer.MAX_VALUE) {
+            for (int v = 0; v < numVertices; v++) {
+                alcancado[v] = 0;
+                definitivo[v] = 0;
+                alcancadoInverso[v] = 0;
+                definitivoInverso[v] = 0;
+            }
+            geracao = 0;
+        }
+        geracao++;
+
+        // Uma consulta interrompida pode deixar vértices nas heaps (custo O(fronteira))
+        frente.limpar();
+        tras.limpar();
+        meio = -1;
+        verticesVisitados = 0;
+    }
+
+    private int distanciaDe(int v) {
+        return alcancado[v] == geracao ? distancia[v] : INFINITO;
+    }
+
+    private int distanciaInversaDe(int v) {
+        return alcancadoInverso[v] == geracao ? distanciaInversa[v] : INFINITO;
+    }
+
+    // Primeira metade da busca: a origem
+    private void iniciarFrente(int origem, int chave) {
+        alcancado[origem] = geracao;
+        distancia[origem] = 0;
+        pai[origem] = -1;
+        frente.inserir(origem, chave);
+    }
+
+    // Dijkstra a partir da origem que para ao definir o destino
+    public int dijkstra(int origem, int destino) {
+        reiniciar(origem, destino);
+        iniciarFrente(origem, 0);
+
+        while (!frente.estaVazio()) {
+            int u = frente.extrairMinimo();
+            definitivo[u] = geracao;
+            verticesVisitados++;
+            if (u == destino) {
+                encontrou(destino);
+                return distancia[destino];
+            }
+
+            int fim = grafo.fim(u);
+            for (int i = grafo.inicio(u); i < fim; i++) {
+                int v = grafo.destino(i);
+                long novaDistancia = (long) distancia[u] + grafo.peso(i);
+                if (definitivo[v] != geracao && novaDistancia < distanciaDe(v)) {
+                    alcancado[v] = geracao;
+                    pai[v] = u;
+                    distancia[v] = (int) novaDistancia;
+                    if (frente.contem(v)) {
+                        frente.diminuirChave(v, distancia[v]);
+                    } else {
+                        frente.inserir(v, distancia[v]);
+                    }
+                }
+            }
+        }
+        return INFINITO;
+    }
+
+    // Dijkstra completo a partir da origem: distancias[v] recebe a distância até cada vértice
+    // (Integer.MAX_VALUE se inalcançável). Preencher a saída custa O(V) de qualquer forma,
+    // mas os vetores de trabalho continuam reaproveitados pelo carimbo de geração.
+    public void todasDistancias(int origem, int[] distancias) {
+        if (distancias.length < numVertices) {
+            throw new IllegalArgumentException("Vetor de distancias menor que o numero de vertices");
+        }
+        reiniciar(origem, origem);
+        iniciarFrente(origem, 0);
+
+        while (!frente.estaVazio()) {
+            int u = frente.extrairMinimo();
+            definitivo[u] = geracao;
+            verticesVisitados++;
+
+            int fim = grafo.fim(u);
+            for (int i = grafo.inicio(u); i < fim; i++) {
+                int v = grafo.destino(i);
+                long novaDistancia = (long) distancia[u] + grafo.peso(i);
+                if (definitivo[v] != geracao && novaDistancia < distanciaDe(v)) {
+                    alcancado[v] = geracao;
+                    pai[v] = u;
+                    distancia[v] = (int) novaDistancia;
+                    if (frente.contem(v)) {
+                        frente.diminuirChave(v, distancia[v]);
+                    } else {
+                        frente.inserir(v, distancia[v]);
+                    }
+                }
+            }
+        }
+
+        for (int v = 0; v < numVertices; v++) {
+            distancias[v] = distanciaDe(v);
+        }
+    }
+
+    // A*: a prioridade de cada vértice é a distância até ele mais a estimativa até o destino.
+    // Com uma heurística consistente a distância de um vértice é definitiva quando ele sai da heap.
+    public int aEstrela(int origem, int destino, Heuristica heuristica) {
+        reiniciar(origem, destino);
+
+        int estimativaOrigem = heuristica.estimar(origem, destino);
+        if (estimativaOrigem == INFINITO) {
+            return INFINITO;
+        }
+        iniciarFrente(origem, estimativaOrigem);
+
+        while (!frente.estaVazio()) {
+            int u = frente.extrairMinimo();
+            definitivo[u] = geracao;
+            verticesVisitados++;
+            if (u == destino) {
+                encontrou(destino);
+                return distancia[destino];
+            }
+
+            int fim = grafo.fim(u);
+            for (int i = grafo.inicio(u); i < fim; i++) {
+                int v = grafo.destino(i);
+                long novaDistancia = (long) distancia[u] + grafo.peso(i);
+                if (definitivo[v] == geracao || novaDistancia >= distanciaDe(v)) {
+                    continue;
+                }
+
+                int estimativa = heuristica.estimar(v, destino);
+                if (estimativa == INFINITO) {
+                    continue; // o destino não é alcançável a partir de v
+                }
+
+                alcancado[v] = geracao;
+                pai[v] = u;
+                distancia[v] = (int) novaDistancia;
+
+                long prioridade = novaDistancia + estimativa;
+                if (prioridade >= INFINITO) {
+                    prioridade = INFINITO - 1;
+                }
+                if (frente.contem(v)) {
+                    frente.diminuirChave(v, (int) prioridade);
+                } else {
+                    frente.inserir(v, (int) prioridade);
+                }
+            }
+        }
+        return INFINITO;
+    }
+
+    // Dijkstra bidirecional: expande sempre a fronteira de menor chave e guarda o melhor
+    // caminho visto ao ligar as duas buscas. Quando a soma das menores chaves das duas
+    // fronteiras já não é menor que esse caminho, nenhum caminho melhor pode existir.
+    public int bidirecional(int origem, int destino) {
+        if (inverso == null) {
+            inverso = ConstrutorGrafo.inverso(grafo);
+        }
+        reiniciar(origem, destino);
+
+        iniciarFrente(origem, 0);
+        alcancadoInverso[destino] = geracao;
+        distanciaInversa[destino] = 0;
+        paiInverso[destino] = -1;
+        tras.inserir(destino, 0);
+
+        long melhor = INFINITO;
+        if (origem == destino) {
+            melhor = 0;
+            meio = origem;
+        }
+
+        while (!frente.estaVazio() && !tras.estaVazio()) {
+            int minimoFrente = frente.chaveMinima();
+            int minimoTras = tras.chaveMinima();
+            if ((long) minimoFrente + minimoTras >= melhor) {
+                break;
+            }
+
+            if (minimoFrente <= minimoTras) {
+                int u = frente.extrairMinimo();
+                definitivo[u] = geracao;
+                verticesVisitados++;
+
+                int fim = grafo.fim(u);
+                for (int i = grafo.inicio(u); i < fim; i++) {
+                    int v = grafo.destino(i);
+                    long novaDistancia = (long) distancia[u] + grafo.peso(i);
+                    if (definitivo[v] != geracao && novaDistancia < distanciaDe(v)) {
+                        alcancado[v] = geracao;
+                        pai[v] = u;
+                        distancia[v] = (int) novaDistancia;
+                        if (frente.contem(v)) {
+                            frente.diminuirChave(v, distancia[v]);
+                        } else {
+                            frente.inserir(v, distancia[v]);
+                        }
+                    }
+
+                    // v já foi alcançado pela busca do destino: as duas metades se ligam
+                    if (alcancadoInverso[v] == geracao && (long) distancia[v] + distanciaInversa[v] < melhor) {
+                        melhor = (long) distancia[v] + distanciaInversa[v];
+                        meio = v;
+                    }
+                }
+            } else {
+                int u = tras.extrairMinimo();
+                definitivoInverso[u] = geracao;
+                verticesVisitados++;
+
+                int fim = inverso.fim(u);
+                for (int i = inverso.inicio(u); i < fim; i++) {
+                    int v = inverso.destino(i);
+                    long novaDistancia = (long) distanciaInversa[u] + inverso.peso(i);
+                    if (definitivoInverso[v] != geracao && novaDistancia < distanciaInversaDe(v)) {
+                        alcancadoInverso[v] = geracao;
+                        paiInverso[v] = u;
+                        distanciaInversa[v] = (int) novaDistancia;
+                        if (tras.contem(v)) {
+                            tras.diminuirChave(v, distanciaInversa[v]);
+                        } else {
+                            tras.inserir(v, distanciaInversa[v]);
+                        }
+                    }
+
+                    if (alcancado[v] == geracao && (long) distancia[v] + distanciaInversa[v] < melhor) {
+                        melhor = (long) distancia[v] + distanciaInversa[v];
+                        meio = v;
+                    }
+                }
+            }
+        }
+
+        if (meio == -1) {
+            return INFINITO;
+        }
+        return (int) melhor;
+    }
+
+    // Nas buscas de um só sentido o caminho termina no próprio destino
+    private void encontrou(int destino) {
+        meio = destino;
+        paiInverso[destino] = -1;
+    }
+
+    // Vértices do menor caminho encontrado pela última consulta (vazio se não há caminho)
+    public int[] obterCaminho() {
+        if (meio == -1) {
+            return new int[0];
+        }
+
+        int tamanho = 0;
+        for (int v = meio; v != -1; v = pai[v]) {
+            tamanho++;
+        }
+        for (int v = paiInverso[meio]; v != -1; v = paiInverso[v]) {
+            tamanho++;
+        }
+
+        int[] caminho = new int[tamanho];
+        int i = 0;
+        for (int v = meio; v != -1; v = pai[v]) {
+            caminho[i] = v;
+            i++;
+        }
+        // A primeira metade foi colhida do meio para a origem; inverte
+        for (int a = 0, b = i - 1; a < b; a++, b--) {
+            int temp = caminho[a];
+            caminho[a] = caminho[b];
+            caminho[b] = temp;
+        }
+        for (int v = paiInverso[meio]; v != -1; v = paiInverso[v]) {
+            caminho[i] = v;
+            i++;
+        }
+        return caminho;
+    }
+
+    public int obterVerticesVisitados() {
+        return verticesVisitados;
+    }
+}
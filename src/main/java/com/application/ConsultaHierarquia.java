@@ -0,0 +1,228 @@
+package com.application;
+
+// Consultas de menor caminho sobre uma HierarquiaContracao.
+// A origem busca só pelas arestas de subida e o destino só pelas de descida
+// (no sentido inverso), então as duas buscas sobem na hierarquia e se encontram
+// no vértice de maior nível do menor caminho. Cada lado para quando a sua menor
+// chave já não é menor que o melhor caminho encontrado; em grafos de estradas
+// cada busca define apenas algumas centenas de vértices.
+//
+// Como na ConsultaCaminho, os vetores são reaproveitados por carimbo de geração
+// e uma instância não deve ser usada por várias threads ao mesmo tempo.
+class ConsultaHierarquia {
+    private static final int INFINITO = Integer.MAX_VALUE;
+
+    private HierarquiaContracao hierarquia;
+    private int numVertices;
+    private int geracao;
+
+    // Busca a partir da origem (arestas de subida)
+    private int[] distancia;
+    private int[] alcancado;
+    private int[] pai;            // Vértice anterior
+    private MinHeapPrimitiva frente;
+
+    // Busca a partir do destino (arestas de descida, no sentido inverso)
+    private int[] distanciaInversa;
+    private int[] alcancadoInverso;
+    private int[] paiInverso;     // Próximo vértice em direção ao destino
+    private MinHeapPrimitiva tras;
+
+    private int meio;             // Vértice de encontro das buscas (-1 se não há caminho)
+    private int verticesVisitados;
+
+    // Caminho desempacotado pela última chamada a obterCaminho
+    private int[] caminho;
+    private int tamanhoCaminho;
+
+    public ConsultaHierarquia(HierarquiaContracao hierarquia) {
+        this.hierarquia = hierarquia;
+        this.numVertices = hierarquia.numVertices();
+
+        distancia = new int[numVertices];
+        alcancado = new int[numVertices];
+        pai = new int[numVertices];
+        distanciaInversa = new int[numVertices];
+        alcancadoInverso = new int[numVertices];
+        paiInverso = new int[numVertices];
+        frente = new MinHeapPrimitiva(numVertices);
+        tras = new MinHeapPrimitiva(numVertices);
+        caminho = new int[16];
+
+        geracao = 0;
+        meio = -1;
+    }
+
+    // Menor distância da origem ao destino (Integer.MAX_VALUE se inalcançável)
+    public int distancia(int origem, int destino) {
+        if (origem < 0 || origem >= numVertices || destino < 0 || destino >= numVertices) {
+            throw new IllegalArgumentException("Vertice fora do intervalo: " + origem + " -> " + destino);
+        }
+
+        // Depois de 2^31 consultas os carimbos recomeçam
+        if (geracao == Integer.MAX_VALUE) {
+            for (int v = 0; v < numVertices; v++) {
+                alcancado[v] = 0;
+                alcancadoInverso[v] = 0;
+            }
+            geracao = 0;
+        }
+        geracao++;
+        frente.limpar();
+        tras.limpar();
+        meio = -1;
+        verticesVisitados = 0;
+
+        alcancado[origem] = geracao;
+        distancia[origem] = 0;
+        pai[origem] = -1;
+        frente.inserir(origem, 0);
+
+        alcancadoInverso[destino] = geracao;
+        distanciaInversa[destino] = 0;
+        paiInverso[destino] = -1;
+        tras.inserir(destino, 0);
+
+        long melhor = INFINITO;
+        HierarquiaContracao h = hierarquia;
+
+        while (!frente.estaVazio() || !tras.estaVazio()) {
+            // Expande o lado de menor chave; um lado cuja chave já alcançou o melhor para
+            boolean ladoFrente = !frente.estaVazio()
+                    && (tras.estaVazio() || frente.chaveMinima() <= tras.chaveMinima());
+
+            if (ladoFrente) {
+                if (frente.chaveMinima() >= melhor) {
+                    frente.limpar();
+                    continue;
+                }
+                int u = frente.extrairMinimo();
+                verticesVisitados++;
+                if (alcancadoInverso[u] == geracao && (long) distancia[u] + distanciaInversa[u] < melhor) {
+                    melhor = (long) distancia[u] + distanciaInversa[u];
+                    meio = u;
+                }
+
+                int fim = h.inicioSubida[u + 1];
+                for (int i = h.inicioSubida[u]; i < fim; i++) {
+                    int v = h.destinoSubida[i];
+                    long novaDistancia = (long) distancia[u] + h.pesoSubida[i];
+                    if (alcancado[v] != geracao) {
+                        alcancado[v] = geracao;
+                        distancia[v] = (int) novaDistancia;
+                        pai[v] = u;
+                        frente.inserir(v, distancia[v]);
+                    } else if (novaDistancia < distancia[v]) {
+                        distancia[v] = (int) novaDistancia;
+                        pai[v] = u;
+                        frente.diminuirChave(v, distancia[v]);
+                    }
+                }
+            } else {
+                if (tras.chaveMinima() >= melhor) {
+                    tras.limpar();
+                    continue;
+                }
+                int u = tras.extrairMinimo();
+                verticesVisitados++;
+                if (alcancado[u] == geracao && (long) distancia[u] + distanciaInversa[u] < melhor) {
+                    melhor = (long) distancia[u] + distanciaInversa[u];
+                    meio = u;
+                }
+
+                int fim = h.inicioDescida[u + 1];
+                for (int i = h.inicioDescida[u]; i < fim; i++) {
+                    int v = h.origemDescida[i];
+                    long novaDistancia = (long) distanciaInversa[u] + h.pesoDescida[i];
+                    if (alcancadoInverso[v] != geracao) {
+                        alcancadoInverso[v] = geracao;
+                        distanciaInversa[v] = (int) novaDistancia;
+                        paiInverso[v] = u;
+                        tras.inserir(v, distanciaInversa[v]);
+                    } else if (novaDistancia < distanciaInversa[v]) {
+                        distanciaInversa[v] = (int) novaDistancia;
+                        paiInverso[v] = u;
+                        tras.diminuirChave(v, distanciaInversa[v]);
+                    }
+                }
+            }
+        }
+
+        if (meio == -1) {
+            return INFINITO;
+        }
+        return (int) melhor;
+    }
+
+    // Caminho da última consulta no grafo original, com os atalhos desempacotados
+    public int[] obterCaminho() {
+        if (meio == -1) {
+            return new int[0];
+        }
+
+        // Metade da origem: os vértices são colhidos do meio para trás
+        int quantidade = 0;
+        for (int v = meio; v != -1; v = pai[v]) {
+            quantidade++;
+        }
+        int[] subida = new int[quantidade];
+        int k = quantidade - 1;
+        for (int v = meio; v != -1; v = pai[v]) {
+            subida[k] = v;
+            k--;
+        }
+
+        tamanhoCaminho = 0;
+        acrescentar(subida[0]);
+        for (int j = 0; j + 1 < quantidade; j++) {
+            desempacotar(subida[j], subida[j + 1]);
+        }
+
+        // Metade do destino: já está na ordem do caminho
+        for (int v = meio; paiInverso[v] != -1; v = paiInverso[v]) {
+            desempacotar(v, paiInverso[v]);
+        }
+
+        int[] resultado = new int[tamanhoCaminho];
+        for (int j = 0; j < tamanhoCaminho; j++) {
+            resultado[j] = caminho[j];
+        }
+        return resultado;
+    }
+
+    // Acrescenta ao caminho os vértices depois de u na aresta u -> w.
+    // Há no máximo uma aresta por par na hierarquia; se ela é um atalho pelo vértice m,
+    // as arestas u -> m e m -> w existem (m foi contraído antes de u e de w).
+    private void desempacotar(int u, int w) {
+        HierarquiaContracao h = hierarquia;
+        int m;
+        if (h.nivel[u] < h.nivel[w]) {
+            m = h.meioSubida[h.arestaSubida(u, w)];
+        } else {
+            m = h.meioDescida[h.arestaDescida(u, w)];
+        }
+
+        if (m == -1) {
+            acrescentar(w);
+        } else {
+            desempacotar(u, m);
+            desempacotar(m, w);
+        }
+    }
+
+    private void acrescentar(int v) {
+        if (tamanhoCaminho == caminho.length) {
+            int[] novo = new int[caminho.length * 2];
+            for (int j = 0; j < caminho.length; j++) {
+                novo[j] = caminho[j];
+            }
+            caminho = novo;
+        }
+        caminho[tamanhoCaminho] = v;
+        tamanhoCaminho++;
+    }
+
+    public int obterVerticesVisitados() {
+        return verticesVisitados;
+    }
+}
@@ -0,0 +1,104 @@
+package com.application;
+
+// Algoritmo de Dijkstra sobre um grafo direcionado em formato CSR.
+// Usa uma lista de prioridade indexada (diminuirChave via vetor de posições),
+// então cada execução custa O((V + E) log V) em vez de O(V²).
+// OBS: os pesos precisam ser não negativos, como exige o algoritmo.
+class Dijkstra {
+    private Grafo grafo;       // Grafo direcionado (CSR em memória ou arquivo mapeado)
+    private int numVertices;   // Quantidade de vértices
+    private FilaPrioridade heap; // Lista de prioridade escolhida na construção
+    private int[] distancia;   // Menor distância conhecida a partir da origem
+    private int[] pai;         // Vértice anterior no menor caminho
+
+    public Dijkstra(Grafo grafo) {
+        this(grafo, new MinHeap(grafo.numVertices()));
+    }
+
+    // Permite escolher a lista de prioridade; como as distâncias extraídas
+    // nunca diminuem, a HeapRadix também pode ser usada aqui.
+    // A fila precisa ter capacidade para todos os vértices e estar vazia.
+    public Dijkstra(Grafo grafo, FilaPrioridade heap) {
+        this.grafo = grafo;
+        this.numVertices = grafo.numVertices();
+        this.heap = heap;
+    }
+
+    public void executar(int origem) {
+        calcular(origem);
+        imprimirResultado(origem);
+    }
+
+    // Calcula as menores distâncias a partir da origem sem imprimir nada
+    public void calcular(int origem) {
+        distancia = new int[numVertices];
+        pai = new int[numVertices];
+        boolean[] visitado = new boolean[numVertices]; // Vértices com distância definitiva
+
+        // Inicializa todas as distâncias como infinito
+        for (int i = 0; i < numVertices; i++) {
+            distancia[i] = Integer.MAX_VALUE;
+            visitado[i] = false;
+            pai[i] = -1;
+        }
+
+        distancia[origem] = 0;
+        heap.inserir(origem, 0);
+
+        // Insere os demais vértices com distância infinita
+        for (int i = 0; i < numVertices; i++) {
+            if (i != origem) {
+                heap.inserir(i, Integer.MAX_VALUE);
+            }
+        }
+
+        while (!heap.estaVazio()) {
+            int u = heap.extrairMinimo();
+
+            // Todos os vértices restantes são inalcançáveis a partir da origem;
+            // esvazia a fila para que ela possa ser reutilizada
+            if (distancia[u] == Integer.MAX_VALUE) {
+                while (!heap.estaVazio()) {
+                    heap.extrairMinimo();
+                }
+                break;
+            }
+            visitado[u] = true;
+
+            // Relaxa apenas as arestas que realmente saem de u
+            int fim = grafo.fim(u);
+            for (int i = grafo.inicio(u); i < fim; i++) {
+                int v = grafo.destino(i);
+
+                // Soma em long para não estourar quando o peso é grande
+                long novaDistancia = (long) distancia[u] + grafo.peso(i);
+                if (!visitado[v] && novaDistancia < distancia[v]) {
+                    pai[v] = u;
+                    distancia[v] = (int) novaDistancia;
+                    heap.diminuirChave(v, distancia[v]);
+                }
+            }
+        }
+    }
+
+    public int[] obterDistancias() {
+        return distancia;
+    }
+
+    public int[] obterPais() {
+        return pai;
+    }
+
+    private void imprimirResultado(int origem) {
+        System.out.println("Menores caminhos a partir do vertice " + origem + " (Algoritmo de Dijkstra):");
+        System.out.println("Vertice \tDistancia \tAnterior");
+
+        for (int i = 0; i < numVertices; i++) {
+            if (distancia[i] == Integer.MAX_VALUE) {
+                System.out.println(i + "\t\tinalcancavel");
+            } else {
+                System.out.println(i + "\t\t" + distancia[i] + "\t\t" + pai[i]);
+            }
+        }
+    }
+}
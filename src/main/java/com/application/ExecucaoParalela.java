@@ -0,0 +1,48 @@
+package com.application;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Laço paralelo simples sobre um intervalo de índices usando fork/join.
+// O intervalo é dividido ao meio até ficar menor que tamanhoMinimo; cada pedaço
+// é processado por uma chamada de acao.executar(inicio, fim), com fim exclusivo.
+class ExecucaoParalela {
+
+    interface AcaoIntervalo {
+        void executar(int inicio, int fim);
+    }
+
+    static void paraCada(ForkJoinPool pool, int inicio, int fim, int tamanhoMinimo, AcaoIntervalo acao) {
+        if (fim <= inicio) {
+            return;
+        }
+        pool.invoke(new TarefaIntervalo(inicio, fim, tamanhoMinimo, acao));
+    }
+
+    @SuppressWarnings("serial")
+    private static class TarefaIntervalo extends RecursiveAction {
+        private final int inicio;
+        private final int fim;
+        private final int tamanhoMinimo;
+        private final AcaoIntervalo acao;
+
+        TarefaIntervalo(int inicio, int fim, int tamanhoMinimo, AcaoIntervalo acao) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.tamanhoMinimo = tamanhoMinimo;
+            this.acao = acao;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= tamanhoMinimo) {
+                acao.executar(inicio, fim);
+                return;
+            }
+
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new TarefaIntervalo(inicio, meio, tamanhoMinimo, acao),
+                    new TarefaIntervalo(meio, fim, tamanhoMinimo, acao));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.application;
+
+// Lista de prioridade indexada por vértice, usada pelos algoritmos de grafos.
+// Os vértices vão de 0 a capacidade - 1 e cada um aparece no máximo uma vez,
+// o que permite o diminuirChave sem busca. Implementações disponíveis:
+//   MinHeap           - heap binária com ElementoHeap (implementação de referência)
+//   MinHeapPrimitiva  - heap binária sem alocação por operação
+//   HeapDAria         - heap d-ária (mais rasa; d = 4 costuma ser o melhor)
+//   HeapPairing       - pairing heap (diminuirChave O(1) amortizado na prática)
+//   HeapRadix         - radix heap; exige chaves monótonas (Dijkstra, não Prim)
+interface FilaPrioridade {
+
+    // Insere um vértice que ainda não está na fila
+    void inserir(int vertice, int chave);
+
+    // Remove e retorna o vértice de menor chave; retorna -1 se a fila estiver vazia
+    int extrairMinimo();
+
+    // Diminui a chave de um vértice presente na fila (ignora vértices ausentes)
+    void diminuirChave(int vertice, int novaChave);
+
+    boolean contem(int vertice);
+
+    boolean estaVazio();
+}
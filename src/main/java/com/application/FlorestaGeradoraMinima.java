@@ -0,0 +1,226 @@
+package com.application;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Floresta geradora mínima: uma árvore geradora mínima para cada componente conexo.
+//
+// 1. Os componentes são descobertos em paralelo unindo os extremos de todas as arestas
+//    em uma união-busca concorrente.
+// 2. Os vértices são agrupados por componente com uma contagem (O(V)), e cada vértice
+//    recebe um índice local dentro do seu componente.
+// 3. Cada componente roda o Prim de forma independente, em paralelo com os demais, usando
+//    uma heap do tamanho do próprio componente. Assim não há custo de reinício por
+//    componente: o trabalho total continua O((V + E) log V).
+// Os pesos são somados em long, então somas grandes não estouram.
+//
+// O grafo é tratado como não direcionado mesmo que a matriz não seja simétrica: o Prim
+// percorre as arestas de saída e as de entrada (o grafo inverso) de cada vértice, ou seja,
+// o fecho simétrico. Assim todo vértice de um componente é alcançado pela sua árvore,
+// que é o mesmo componente encontrado pela união-busca. Em matriz simétrica isso só faz
+// cada aresta ser examinada duas vezes, sem mudar o resultado.
+class FlorestaGeradoraMinima {
+    private static final int COMPONENTES_POR_TAREFA = 64;
+    private static final int VERTICES_POR_TAREFA = 4096;
+
+    private Grafo grafo;
+    private Grafo inverso;          // Arestas de entrada de cada vértice
+    private int numVertices;
+    private ForkJoinPool pool;
+
+    private int numComponentes;     // Quantidade de componentes conexos
+    private int[] inicioComponente; // Vértices do componente c: vertices[inicioComponente[c] .. inicioComponente[c + 1])
+    private int[] vertices;         // Vértices agrupados por componente
+    private int[] indiceLocal;      // Posição de cada vértice dentro do seu componente
+    private int[] pai;              // Pai de cada vértice na árvore do seu componente (-1 na raiz)
+    private int[] chave;            // Peso da aresta até o pai
+    private long[] pesoComponente;  // Peso da árvore de cada componente
+
+    public FlorestaGeradoraMinima(Grafo grafo) {
+        this(grafo, ForkJoinPool.commonPool());
+    }
+
+    public FlorestaGeradoraMinima(Grafo grafo, ForkJoinPool pool) {
+        this.grafo = grafo;
+        this.numVertices = grafo.numVertices();
+        this.pool = pool;
+    }
+
+    public void executar() {
+        calcular();
+        imprimirResultado();
+    }
+
+    public void calcular() {
+        inverso = ConstrutorGrafo.inverso(grafo);
+        descobrirComponentes();
+
+        pai = new int[numVertices];
+        chave = new int[numVertices];
+        pesoComponente = new long[numComponentes];
+
+        // Cada componente escreve apenas nas posições dos seus próprios vértices
+        ExecucaoParalela.paraCada(pool, 0, numComponentes, COMPONENTES_POR_TAREFA, (inicio, fim) -> {
+            for (int c = inicio; c < fim; c++) {
+                primNoComponente(c);
+            }
+        });
+    }
+
+    // Descobre os componentes e agrupa os vértices de cada um
+    private void descobrirComponentes() {
+        final int n = numVertices;
+        final UniaoBuscaConcorrente conjuntos = new UniaoBuscaConcorrente(n);
+
+        ExecucaoParalela.paraCada(pool, 0, n, VERTICES_POR_TAREFA, (inicio, fim) -> {
+            for (int u = inicio; u < fim; u++) {
+                int ultima = grafo.fim(u);
+                for (int i = grafo.inicio(u); i < ultima; i++) {
+                    conjuntos.unir(u, grafo.destino(i));
+                }
+            }
+        });
+
+        // A raiz de cada conjunto é o seu menor vértice, então numerar as raízes em
+        // ordem crescente numera os componentes pela ordem do seu menor vértice
+        final int[] componente = new int[n];
+        int[] numeroDaRaiz = new int[n];
+        numComponentes = 0;
+        for (int u = 0; u < n; u++) {
+            int r = conjuntos.buscar(u);
+            if (r == u) {
+                numeroDaRaiz[u] = numComponentes;
+                numComponentes++;
+            }
+            componente[u] = numeroDaRaiz[r];
+        }
+
+        // Contagem por componente, soma de prefixos e distribuição dos vértices
+        inicioComponente = new int[numComponentes + 1];
+        for (int u = 0; u < n; u++) {
+            inicioComponente[componente[u] + 1]++;
+        }
+        for (int c = 0; c < numComponentes; c++) {
+            inicioComponente[c + 1] = inicioComponente[c + 1] + inicioComponente[c];
+        }
+
+        vertices = new int[n];
+        indiceLocal = new int[n];
+        int[] cursor = new int[numComponentes];
+        for (int u = 0; u < n; u++) {
+            int c = componente[u];
+            indiceLocal[u] = cursor[c];
+            vertices[inicioComponente[c] + cursor[c]] = u;
+            cursor[c]++;
+        }
+    }
+
+    // Prim restrito a um componente, com heap indexada pelos índices locais
+    private void primNoComponente(int c) {
+        int base = inicioComponente[c];
+        int tamanho = inicioComponente[c + 1] - base;
+
+        for (int k = 0; k < tamanho; k++) {
+            int v = vertices[base + k];
+            pai[v] = -1;
+            chave[v] = Integer.MAX_VALUE;
+        }
+
+        int raiz = vertices[base];
+        chave[raiz] = 0;
+        if (tamanho == 1) {
+            return;
+        }
+
+        MinHeapPrimitiva heap = new MinHeapPrimitiva(tamanho);
+        boolean[] incluido = new boolean[tamanho];
+        boolean[] alcancado = new boolean[tamanho]; // já tem aresta candidata (aceita peso MAX_VALUE)
+        heap.inserir(0, 0);
+        for (int k = 1; k < tamanho; k++) {
+            heap.inserir(k, Integer.MAX_VALUE);
+        }
+
+        long peso = 0;
+        while (!heap.estaVazio()) {
+            int local = heap.extrairMinimo();
+            int u = vertices[base + local];
+            incluido[local] = true;
+            if (pai[u] != -1) {
+                peso = peso + chave[u];
+            }
+
+            // Arestas de saída e depois as de entrada de u
+            for (int sentido = 0; sentido < 2; sentido++) {
+                Grafo g = sentido == 0 ? grafo : inverso;
+                int ultima = g.fim(u);
+                for (int i = g.inicio(u); i < ultima; i++) {
+                    int v = g.destino(i);
+                    int localV = indiceLocal[v];
+                    int pesoAresta = g.peso(i);
+
+                    if (!incluido[localV] && (!alcancado[localV] || pesoAresta < chave[v])) {
+                        alcancado[localV] = true;
+                        pai[v] = u;
+                        chave[v] = pesoAresta;
+                        heap.diminuirChave(localV, pesoAresta);
+                    }
+                }
+            }
+        }
+
+        pesoComponente[c] = peso;
+    }
+
+    public int obterNumComponentes() {
+        return numComponentes;
+    }
+
+    // Menor vértice do componente c (a raiz da sua árvore)
+    public int obterRaiz(int c) {
+        return vertices[inicioComponente[c]];
+    }
+
+    public int obterTamanhoComponente(int c) {
+        return inicioComponente[c + 1] - inicioComponente[c];
+    }
+
+    public long obterPesoComponente(int c) {
+        return pesoComponente[c];
+    }
+
+    public long obterPesoTotal() {
+        long total = 0;
+        for (int c = 0; c < numComponentes; c++) {
+            total = total + pesoComponente[c];
+        }
+        return total;
+    }
+
+    public int[] obterPais() {
+        return pai;
+    }
+
+    public int[] obterChaves() {
+        return chave;
+    }
+
+    private void imprimirResultado() {
+        System.out.println("Floresta Geradora Minima (Prim por componente):");
+        System.out.println("Componentes: " + numComponentes);
+
+        for (int c = 0; c < numComponentes; c++) {
+            int base = inicioComponente[c];
+            int tamanho = inicioComponente[c + 1] - base;
+
+            System.out.println();
+            System.out.println("Componente " + c + " (raiz " + vertices[base] + ", " + tamanho + " vertices):");
+            System.out.println("Aresta \t\tPeso");
+            for (int k = 1; k < tamanho; k++) {
+                int v = vertices[base + k];
+                System.out.println(pai[v] + " - " + v + "\t\t" + chave[v]);
+            }
+            System.out.println("Peso da arvore: " + pesoComponente[c]);
+        }
+
+        System.out.println("\nPeso total da floresta: " + obterPesoTotal());
+    }
+}
@@ -0,0 +1,205 @@
+package com.application;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Distâncias entre todos os pares de vértices pelo algoritmo de Floyd–Warshall,
+// dividido em blocos (tiles) de TAMANHO_BLOCO x TAMANHO_BLOCO para caber na cache.
+// Para cada bloco k da diagonal há três fases:
+//   1. o próprio bloco (k, k), que depende só dele mesmo;
+//   2. os blocos da linha k e da coluna k, que dependem de (k, k) e de si mesmos;
+//   3. todos os demais blocos (i, j), que dependem só de (i, k) e (k, j).
+// Os blocos de cada fase 2 e 3 são independentes entre si e rodam em paralelo (fork/join).
+//
+// O laço mais interno percorre uma linha contígua e faz apenas soma e mínimo, sem
+// desvios, o que permite ao JIT vetorizá-lo. Para isso "sem caminho" é representado por
+// INFINITO = Integer.MAX_VALUE / 2, de modo que somar duas distâncias nunca estoura.
+// Com pesos negativos um valor "infinito" pode diminuir um pouco (INFINITO + d), então
+// qualquer valor acima de SEM_CAMINHO conta como sem caminho; por isso as distâncias
+// reais precisam ficar abaixo de 2^28 em módulo.
+// Um ciclo negativo aparece como distância negativa na diagonal; nesse caso os valores
+// são limitados por baixo em -INFINITO para não estourarem.
+class FloydWarshall {
+    static final int INFINITO = Integer.MAX_VALUE / 2;
+    static final int SEM_CAMINHO = INFINITO / 2;
+    private static final int TAMANHO_BLOCO = 64;
+
+    private int numVertices;
+    private int[][] distancia;     // Trabalha em uma cópia; a entrada não é alterada
+    private ForkJoinPool pool;
+    private boolean cicloNegativo;
+    private boolean pesoNegativo;  // Só então o laço interno precisa do limite inferior
+
+    // Matriz de adjacência no formato das questões 2 e 3 (0 indica ausência de aresta)
+    public FloydWarshall(int[][] matriz, int numVertices) {
+        this(numVertices, ForkJoinPool.commonPool());
+        for (int i = 0; i < numVertices; i++) {
+            for (int j = 0; j < numVertices; j++) {
+                if (matriz[i][j] != 0) {
+                    relaxarAresta(i, j, matriz[i][j]);
+                }
+            }
+        }
+    }
+
+    public FloydWarshall(Grafo grafo) {
+        this(grafo, ForkJoinPool.commonPool());
+    }
+
+    public FloydWarshall(Grafo grafo, ForkJoinPool pool) {
+        this(grafo.numVertices(), pool);
+        for (int u = 0; u < numVertices; u++) {
+            int fim = grafo.fim(u);
+            for (int i = grafo.inicio(u); i < fim; i++) {
+                relaxarAresta(u, grafo.destino(i), grafo.peso(i));
+            }
+        }
+    }
+
+    private FloydWarshall(int numVertices, ForkJoinPool pool) {
+        this.numVertices = numVertices;
+        this.pool = pool;
+        this.distancia = new int[numVertices][numVertices];
+        for (int i = 0; i < numVertices; i++) {
+            for (int j = 0; j < numVertices; j++) {
+                distancia[i][j] = INFINITO;
+            }
+            distancia[i][i] = 0;
+        }
+    }
+
+    // Arestas paralelas ficam com o menor peso; um laço negativo já é um ciclo negativo
+    private void relaxarAresta(int u, int v, int peso) {
+        if (peso < distancia[u][v]) {
+            distancia[u][v] = peso;
+        }
+        if (peso < 0) {
+            pesoNegativo = true;
+        }
+    }
+
+    public void calcular() {
+        final int n = numVertices;
+        final int blocos = (n + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO;
+
+        for (int kb = 0; kb < blocos; kb++) {
+            final int k = kb;
+
+            // Fase 1: bloco da diagonal
+            atualizarBloco(k, k, k);
+
+            // Fase 2: linha k (blocos (k, j)) e coluna k (blocos (i, k)), j e i != k
+            ExecucaoParalela.paraCada(pool, 0, 2 * (blocos - 1), 1, (inicio, fim) -> {
+                for (int t = inicio; t < fim; t++) {
+                    int outro = t >> 1;
+                    if (outro >= k) {
+                        outro++;
+                    }
+                    if ((t & 1) == 0) {
+                        atualizarBloco(k, outro, k);
+                    } else {
+                        atualizarBloco(outro, k, k);
+                    }
+                }
+            });
+
+            // Fase 3: os demais blocos, cada linha de blocos em uma tarefa
+            ExecucaoParalela.paraCada(pool, 0, blocos, 1, (inicio, fim) -> {
+                for (int ib = inicio; ib < fim; ib++) {
+                    if (ib == k) {
+                        continue;
+                    }
+                    for (int jb = 0; jb < blocos; jb++) {
+                        if (jb != k) {
+                            atualizarBloco(ib, jb, k);
+                        }
+                    }
+                }
+            });
+        }
+
+        cicloNegativo = false;
+        for (int i = 0; i < n; i++) {
+            if (distancia[i][i] < 0) {
+                cicloNegativo = true;
+            }
+        }
+    }
+
+    // Relaxa o bloco (ib, jb) passando pelos vértices intermediários do bloco kb.
+    // Com k no laço externo a mesma rotina serve para as três fases, inclusive quando
+    // o bloco lido e o escrito são o mesmo.
+    private void atualizarBloco(int ib, int jb, int kb) {
+        int n = numVertices;
+        int iInicio = ib * TAMANHO_BLOCO;
+        int iFim = Math.min(iInicio + TAMANHO_BLOCO, n);
+        int jInicio = jb * TAMANHO_BLOCO;
+        int jFim = Math.min(jInicio + TAMANHO_BLOCO, n);
+        int kInicio = kb * TAMANHO_BLOCO;
+        int kFim = Math.min(kInicio + TAMANHO_BLOCO, n);
+
+        for (int k = kInicio; k < kFim; k++) {
+            int[] linhaK = distancia[k];
+            for (int i = iInicio; i < iFim; i++) {
+                int[] linhaI = distancia[i];
+                int ik = linhaI[k];
+                if (ik > SEM_CAMINHO) {
+                    continue; // sem caminho i -> k: nada a relaxar nesta linha
+                }
+                // Laços sem desvios: soma e mínimo sobre trechos contíguos
+                if (pesoNegativo) {
+                    for (int j = jInicio; j < jFim; j++) {
+                        linhaI[j] = Math.max(Math.min(linhaI[j], ik + linhaK[j]), -INFINITO);
+                    }
+                } else {
+                    for (int j = jInicio; j < jFim; j++) {
+                        linhaI[j] = Math.min(linhaI[j], ik + linhaK[j]);
+                    }
+                }
+            }
+        }
+    }
+
+    public boolean temCicloNegativo() {
+        return cicloNegativo;
+    }
+
+    // Matriz de distâncias; valores acima de SEM_CAMINHO indicam que não há caminho
+    public int[][] obterDistancias() {
+        return distancia;
+    }
+
+    public int obterDistancia(int origem, int destino) {
+        int d = distancia[origem][destino];
+        return d > SEM_CAMINHO ? Integer.MAX_VALUE : d;
+    }
+
+    public void imprimirResultado() {
+        if (cicloNegativo) {
+            System.out.println("O grafo possui ciclo negativo: as distancias nao estao definidas.");
+            System.out.print("Vertices em ciclo negativo:");
+            for (int i = 0; i < numVertices; i++) {
+                if (distancia[i][i] < 0) {
+                    System.out.print(" " + i);
+                }
+            }
+            System.out.println();
+            return;
+        }
+
+        System.out.println("Distancias entre todos os pares (Algoritmo de Floyd-Warshall):");
+        for (int i = 0; i < numVertices; i++) {
+            StringBuilder linha = new StringBuilder();
+            for (int j = 0; j < numVertices; j++) {
+                if (j > 0) {
+                    linha.append('\t');
+                }
+                if (distancia[i][j] > SEM_CAMINHO) {
+                    linha.append("inf");
+                } else {
+                    linha.append(distancia[i][j]);
+                }
+            }
+            System.out.println(linha);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.application;
+
+// Grafo ponderado no formato CSR, visto apenas pelas operações de percurso.
+// As arestas que saem de u ocupam as posições [inicio(u), fim(u)).
+// Implementações: GrafoCSR (vetores em memória) e GrafoMapeado (arquivo binário
+// mapeado em memória, ver ArquivoGrafoBinario).
+interface Grafo {
+
+    int numVertices();
+
+    int numArestas();
+
+    // Primeira aresta que sai de u
+    int inicio(int u);
+
+    // Posição logo após a última aresta que sai de u
+    int fim(int u);
+
+    int destino(int aresta);
+
+    int peso(int aresta);
+}
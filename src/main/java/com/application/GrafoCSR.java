@@ -0,0 +1,72 @@
+package com.application;
+
+// Grafo ponderado em formato CSR (Compressed Sparse Row).
+// As arestas que saem do vértice u ocupam as posições [offsets[u], offsets[u + 1])
+// dos vetores destinos e pesos. Assim, percorrer os vizinhos de u custa apenas
+// o grau de u, e a memória usada é O(V + E) em vez dos V² da matriz de adjacência.
+class GrafoCSR implements Grafo {
+    private int numVertices;   // Quantidade de vértices
+    private int numArestas;    // Quantidade de arestas (direcionadas)
+    private int[] offsets;     // Início da lista de cada vértice (tamanho numVertices + 1)
+    private int[] destinos;    // Vértice de chegada de cada aresta
+    private int[] pesos;       // Peso de cada aresta
+
+    // Monta o CSR a partir de uma lista de arestas (origem, destino, peso) em qualquer ordem.
+    // As arestas são distribuídas por contagem do vértice de origem, então o custo é O(V + E).
+    public GrafoCSR(int numVertices, int[] origens, int[] destinosArestas, int[] pesosArestas, int numArestas) {
+        this.numVertices = numVertices;
+        this.numArestas = numArestas;
+        this.offsets = new int[numVertices + 1];
+        this.destinos = new int[numArestas];
+        this.pesos = new int[numArestas];
+
+        // Conta o grau de saída de cada vértice
+        for (int i = 0; i < numArestas; i++) {
+            offsets[origens[i] + 1]++;
+        }
+
+        // Soma de prefixos: offsets[u] passa a ser o início da lista de u
+        for (int u = 0; u < numVertices; u++) {
+            offsets[u + 1] = offsets[u + 1] + offsets[u];
+        }
+
+        // Distribui as arestas usando um cursor de escrita por vértice
+        int[] cursor = new int[numVertices];
+        for (int u = 0; u < numVertices; u++) {
+            cursor[u] = offsets[u];
+        }
+
+        for (int i = 0; i < numArestas; i++) {
+            int pos = cursor[origens[i]];
+            destinos[pos] = destinosArestas[i];
+            pesos[pos] = pesosArestas[i];
+            cursor[origens[i]] = pos + 1;
+        }
+    }
+
+    public int numVertices() {
+        return numVertices;
+    }
+
+    public int numArestas() {
+        return numArestas;
+    }
+
+    // Primeira aresta que sai de u
+    public int inicio(int u) {
+        return offsets[u];
+    }
+
+    // Posição logo após a última aresta que sai de u
+    public int fim(int u) {
+        return offsets[u + 1];
+    }
+
+    public int destino(int aresta) {
+        return destinos[aresta];
+    }
+
+    public int peso(int aresta) {
+        return pesos[aresta];
+    }
+}
@@ -0,0 +1,120 @@
+package com.application;
+
+// Heap d-ária indexada: cada nó possui até d filhos.
+// Com d = 4 a árvore tem metade da altura da heap binária, então heapifyParaCima
+// (usado pelo diminuirChave) faz menos passos, e os d filhos comparados em
+// heapifyParaBaixo ficam vizinhos na memória (mesma linha de cache).
+// Chaves e vértices ficam em vetores paralelos, sem objetos por elemento.
+class HeapDAria implements FilaPrioridade {
+    private int d;            // Número de filhos por nó
+    private int[] chaves;     // Chave de cada posição da heap
+    private int[] vertices;   // Vértice de cada posição da heap
+    private int[] posicao;    // Posição atual de cada vértice dentro da heap (-1 se ausente)
+    private int tamanho;      // Número de elementos na heap
+
+    public HeapDAria(int capacidade) {
+        this(capacidade, 4);
+    }
+
+    public HeapDAria(int capacidade, int d) {
+        if (d < 2) {
+            throw new IllegalArgumentException("A heap d-aria precisa de d >= 2: " + d);
+        }
+        this.d = d;
+        this.tamanho = 0;
+        this.chaves = new int[capacidade];
+        this.vertices = new int[capacidade];
+        this.posicao = new int[capacidade];
+
+        for (int i = 0; i < capacidade; i++) {
+            posicao[i] = -1;
+        }
+    }
+
+    // Escreve o par (vértice, chave) na posição idx e atualiza o índice
+    private void colocar(int idx, int vertice, int chave) {
+        chaves[idx] = chave;
+        vertices[idx] = vertice;
+        posicao[vertice] = idx;
+    }
+
+    // Sobe o elemento abrindo um "buraco" até a posição correta
+    private void heapifyParaCima(int idx, int vertice, int chave) {
+        while (idx > 0) {
+            int pai = (idx - 1) / d;
+            if (chave >= chaves[pai]) {
+                break;
+            }
+            colocar(idx, vertices[pai], chaves[pai]);
+            idx = pai;
+        }
+        colocar(idx, vertice, chave);
+    }
+
+    // Desce o elemento escolhendo o menor entre os d filhos
+    private void heapifyParaBaixo(int idx, int vertice, int chave) {
+        while (true) {
+            int primeiro = d * idx + 1;
+            if (primeiro >= tamanho) {
+                break;
+            }
+
+            int ultimo = primeiro + d;
+            if (ultimo > tamanho) {
+                ultimo = tamanho;
+            }
+
+            int menor = primeiro;
+            for (int f = primeiro + 1; f < ultimo; f++) {
+                if (chaves[f] < chaves[menor]) {
+                    menor = f;
+                }
+            }
+
+            if (chave <= chaves[menor]) {
+                break;
+            }
+            colocar(idx, vertices[menor], chaves[menor]);
+            idx = menor;
+        }
+        colocar(idx, vertice, chave);
+    }
+
+    public void inserir(int vertice, int chave) {
+        tamanho++;
+        heapifyParaCima(tamanho - 1, vertice, chave);
+    }
+
+    public int extrairMinimo() {
+        if (tamanho == 0) {
+            return -1;
+        }
+
+        int minimo = vertices[0];
+        posicao[minimo] = -1;
+
+        tamanho--;
+        if (tamanho > 0) {
+            heapifyParaBaixo(0, vertices[tamanho], chaves[tamanho]);
+        }
+
+        return minimo;
+    }
+
+    public void diminuirChave(int vertice, int novaChave) {
+        int idx = posicao[vertice];
+        if (idx == -1) {
+            return;
+        }
+
+        heapifyParaCima(idx, vertice, novaChave);
+    }
+
+    public boolean contem(int vertice) {
+        return posicao[vertice] != -1;
+    }
+
+    public boolean estaVazio() {
+        return tamanho == 0;
+    }
+}
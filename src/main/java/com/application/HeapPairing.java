@@ -0,0 +1,147 @@
+package com.application;
+
+// Pairing heap indexada por vértice.
+// Cada vértice é um nó da floresta, representado por vetores paralelos:
+// filho (primeiro filho), irmao (próximo irmão) e anterior (irmão anterior,
+// ou o pai quando o nó é o primeiro filho). Inserir e diminuirChave apenas
+// "fundem" árvores em O(1); todo o trabalho fica para o extrairMinimo,
+// que junta os filhos da raiz em duas passadas (pares e depois da direita para a esquerda).
+class HeapPairing implements FilaPrioridade {
+    private int[] chave;      // Chave de cada vértice
+    private int[] filho;      // Primeiro filho de cada nó (-1 se não houver)
+    private int[] irmao;      // Próximo irmão de cada nó (-1 se não houver)
+    private int[] anterior;   // Irmão anterior ou pai (-1 para a raiz)
+    private boolean[] naFila; // Indica se o vértice está na heap
+    private int[] auxiliar;   // Vetor reutilizado no extrairMinimo para juntar os filhos
+    private int raiz;         // Nó de menor chave (-1 se vazia)
+    private int tamanho;      // Número de elementos na heap
+
+    public HeapPairing(int capacidade) {
+        this.chave = new int[capacidade];
+        this.filho = new int[capacidade];
+        this.irmao = new int[capacidade];
+        this.anterior = new int[capacidade];
+        this.naFila = new boolean[capacidade];
+        this.auxiliar = new int[capacidade];
+        this.raiz = -1;
+        this.tamanho = 0;
+    }
+
+    // Funde duas árvores: a de maior chave vira o primeiro filho da outra
+    private int fundir(int a, int b) {
+        if (a == -1) {
+            return b;
+        }
+        if (b == -1) {
+            return a;
+        }
+
+        if (chave[b] < chave[a]) {
+            int temp = a;
+            a = b;
+            b = temp;
+        }
+
+        irmao[b] = filho[a];
+        if (filho[a] != -1) {
+            anterior[filho[a]] = b;
+        }
+        anterior[b] = a;
+        filho[a] = b;
+        return a;
+    }
+
+    // Remove a subárvore de v da lista de irmãos onde ela está pendurada
+    private void desligar(int v) {
+        int ant = anterior[v];
+        if (filho[ant] == v) {
+            filho[ant] = irmao[v];   // v era o primeiro filho
+        } else {
+            irmao[ant] = irmao[v];
+        }
+        if (irmao[v] != -1) {
+            anterior[irmao[v]] = ant;
+        }
+        anterior[v] = -1;
+        irmao[v] = -1;
+    }
+
+    public void inserir(int vertice, int chaveVertice) {
+        chave[vertice] = chaveVertice;
+        filho[vertice] = -1;
+        irmao[vertice] = -1;
+        anterior[vertice] = -1;
+        naFila[vertice] = true;
+        tamanho++;
+
+        raiz = fundir(raiz, vertice);
+    }
+
+    public int extrairMinimo() {
+        if (raiz == -1) {
+            return -1;
+        }
+
+        int minimo = raiz;
+        naFila[minimo] = false;
+        tamanho--;
+
+        // Separa os filhos da raiz em uma lista de árvores independentes
+        int quantidade = 0;
+        int atual = filho[minimo];
+        while (atual != -1) {
+            int proximo = irmao[atual];
+            irmao[atual] = -1;
+            anterior[atual] = -1;
+            auxiliar[quantidade] = atual;
+            quantidade++;
+            atual = proximo;
+        }
+        filho[minimo] = -1;
+
+        // Primeira passada: funde os filhos dois a dois, da esquerda para a direita
+        int pares = 0;
+        int i = 0;
+        while (i + 1 < quantidade) {
+            auxiliar[pares] = fundir(auxiliar[i], auxiliar[i + 1]);
+            pares++;
+            i = i + 2;
+        }
+        if (i < quantidade) {
+            auxiliar[pares] = auxiliar[i];
+            pares++;
+        }
+
+        // Segunda passada: funde os resultados da direita para a esquerda
+        int novaRaiz = -1;
+        for (int j = pares - 1; j >= 0; j--) {
+            novaRaiz = fundir(auxiliar[j], novaRaiz);
+        }
+        raiz = novaRaiz;
+
+        return minimo;
+    }
+
+    public void diminuirChave(int vertice, int novaChave) {
+        if (!naFila[vertice]) {
+            return;
+        }
+
+        chave[vertice] = novaChave;
+        if (vertice == raiz) {
+            return;
+        }
+
+        // Corta a subárvore do vértice e a funde de volta com a raiz
+        desligar(vertice);
+        raiz = fundir(raiz, vertice);
+    }
+
+    public boolean contem(int vertice) {
+        return naFila[vertice];
+    }
+
+    public boolean estaVazio() {
+        return tamanho == 0;
+    }
+}
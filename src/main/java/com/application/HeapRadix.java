@@ -0,0 +1,146 @@
+package com.application;
+
+// Radix heap indexada para chaves inteiras não negativas e monótonas:
+// enquanto a heap não esvazia, nenhuma chave inserida ou diminuída pode ser
+// menor que a última chave extraída.
+// Essa é exatamente a situação do Dijkstra com pesos não negativos, mas NÃO a do Prim
+// (no Prim a chave de um vértice pode ficar menor que a última extraída).
+//
+// O balde de um elemento é dado pelo bit mais significativo em que sua chave
+// difere da última extraída. Quando o balde 0 esvazia, o primeiro balde não vazio
+// é redistribuído em relação ao seu menor elemento; cada elemento só pode descer
+// de balde, então o custo amortizado é O(log C), com C a maior chave.
+// Os baldes são listas duplamente encadeadas sobre vetores indexados pelo vértice,
+// o que deixa inserir e diminuirChave em O(1).
+class HeapRadix implements FilaPrioridade {
+    private static final int NUM_BALDES = 33;
+
+    private int[] chave;      // Chave de cada vértice
+    private int[] balde;      // Balde onde o vértice está (-1 se ausente)
+    private int[] proximo;    // Próximo vértice do mesmo balde
+    private int[] anterior;   // Vértice anterior do mesmo balde
+    private int[] inicioBalde; // Primeiro vértice de cada balde (-1 se vazio)
+    private int ultimo;       // Última chave extraída
+    private int tamanho;      // Número de elementos na heap
+
+    public HeapRadix(int capacidade) {
+        this.chave = new int[capacidade];
+        this.balde = new int[capacidade];
+        this.proximo = new int[capacidade];
+        this.anterior = new int[capacidade];
+        this.inicioBalde = new int[NUM_BALDES];
+        this.ultimo = 0;
+        this.tamanho = 0;
+
+        for (int i = 0; i < capacidade; i++) {
+            balde[i] = -1;
+        }
+        for (int b = 0; b < NUM_BALDES; b++) {
+            inicioBalde[b] = -1;
+        }
+    }
+
+    // Balde de uma chave em relação à última extraída
+    private int calcularBalde(int chaveVertice) {
+        return 32 - Integer.numberOfLeadingZeros(chaveVertice ^ ultimo);
+    }
+
+    private void validar(int chaveVertice) {
+        if (chaveVertice < ultimo) {
+            throw new IllegalArgumentException("HeapRadix exige chaves monotonas: " + chaveVertice
+                    + " < ultima extraida " + ultimo);
+        }
+    }
+
+    // Coloca o vértice no início da lista do balde b
+    private void ligar(int vertice, int b) {
+        balde[vertice] = b;
+        anterior[vertice] = -1;
+        proximo[vertice] = inicioBalde[b];
+        if (inicioBalde[b] != -1) {
+            anterior[inicioBalde[b]] = vertice;
+        }
+        inicioBalde[b] = vertice;
+    }
+
+    // Retira o vértice da lista do seu balde
+    private void desligar(int vertice) {
+        int b = balde[vertice];
+        if (anterior[vertice] != -1) {
+            proximo[anterior[vertice]] = proximo[vertice];
+        } else {
+            inicioBalde[b] = proximo[vertice];
+        }
+        if (proximo[vertice] != -1) {
+            anterior[proximo[vertice]] = anterior[vertice];
+        }
+        balde[vertice] = -1;
+    }
+
+    public void inserir(int vertice, int chaveVertice) {
+        // Com a heap vazia não há restrição de monotonicidade: a referência recomeça
+        if (tamanho == 0) {
+            ultimo = 0;
+        }
+        validar(chaveVertice);
+        chave[vertice] = chaveVertice;
+        ligar(vertice, calcularBalde(chaveVertice));
+        tamanho++;
+    }
+
+    public int extrairMinimo() {
+        if (tamanho == 0) {
+            return -1;
+        }
+
+        if (inicioBalde[0] == -1) {
+            // Procura o primeiro balde não vazio
+            int b = 1;
+            while (inicioBalde[b] == -1) {
+                b++;
+            }
+
+            // O menor elemento desse balde passa a ser a referência
+            int menor = chave[inicioBalde[b]];
+            for (int v = inicioBalde[b]; v != -1; v = proximo[v]) {
+                if (chave[v] < menor) {
+                    menor = chave[v];
+                }
+            }
+            ultimo = menor;
+
+            // Redistribui todo o balde; cada elemento vai para um balde menor
+            int v = inicioBalde[b];
+            inicioBalde[b] = -1;
+            while (v != -1) {
+                int seguinte = proximo[v];
+                ligar(v, calcularBalde(chave[v]));
+                v = seguinte;
+            }
+        }
+
+        int minimo = inicioBalde[0];
+        desligar(minimo);
+        tamanho--;
+        return minimo;
+    }
+
+    public void diminuirChave(int vertice, int novaChave) {
+        if (balde[vertice] == -1) {
+            return;
+        }
+
+        validar(novaChave);
+        desligar(vertice);
+        chave[vertice] = novaChave;
+        ligar(vertice, calcularBalde(novaChave));
+    }
+
+    public boolean contem(int vertice) {
+        return balde[vertice] != -1;
+    }
+
+    public boolean estaVazio() {
+        return tamanho == 0;
+    }
+}
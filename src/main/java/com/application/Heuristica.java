@@ -0,0 +1,11 @@
+package com.application;
+
+// Estimativa usada pelo A* para a distância restante de um vértice até o destino.
+// Para o A* devolver o menor caminho a estimativa precisa ser admissível (nunca maior
+// que a distância real); se também for consistente (h(u) <= peso(u, v) + h(v)),
+// cada vértice é processado uma única vez, como no Dijkstra.
+// Integer.MAX_VALUE indica que o destino é inalcançável a partir do vértice.
+interface Heuristica {
+
+    int estimar(int vertice, int destino);
+}
@@ -0,0 +1,174 @@
+package com.application;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Resultado do pré-processamento de uma hierarquia de contração (ver ConstrutorHierarquia).
+// Cada vértice tem um nível (a ordem em que foi contraído) e as arestas do grafo
+// original mais os atalhos são divididas em dois CSR:
+//   subida   - arestas u -> w com nivel[u] < nivel[w], guardadas na lista de u
+//   descida  - arestas u -> w com nivel[u] > nivel[w], guardadas na lista de w
+//              (com a origem u), para a busca a partir do destino subir pelo inverso
+// Em cada aresta meio é o vértice contraído que o atalho substitui (-1 se a aresta é original);
+// é o que permite desempacotar um atalho de volta no caminho do grafo original.
+//
+// Formato do arquivo (int de 4 bytes em little-endian, como no ArquivoGrafoBinario):
+//   cabeçalho: MAGICO, VERSAO, numVertices, arestasSubida, arestasDescida
+//   nivel[n], inicioSubida[n + 1], destinoSubida[], pesoSubida[], meioSubida[],
+//   inicioDescida[n + 1], origemDescida[], pesoDescida[], meioDescida[]
+class HierarquiaContracao {
+    static final int MAGICO = 0x4C344348;   // "L4CH"
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 20;
+
+    final int numVertices;
+    final int[] nivel;
+
+    final int[] inicioSubida;
+    final int[] destinoSubida;
+    final int[] pesoSubida;
+    final int[] meioSubida;
+
+    final int[] inicioDescida;
+    final int[] origemDescida;
+    final int[] pesoDescida;
+    final int[] meioDescida;
+
+    HierarquiaContracao(int numVertices, int[] nivel,
+                        int[] inicioSubida, int[] destinoSubida, int[] pesoSubida, int[] meioSubida,
+                        int[] inicioDescida, int[] origemDescida, int[] pesoDescida, int[] meioDescida) {
+        this.numVertices = numVertices;
+        this.nivel = nivel;
+        this.inicioSubida = inicioSubida;
+        this.destinoSubida = destinoSubida;
+        this.pesoSubida = pesoSubida;
+        this.meioSubida = meioSubida;
+        this.inicioDescida = inicioDescida;
+        this.origemDescida = origemDescida;
+        this.pesoDescida = pesoDescida;
+        this.meioDescida = meioDescida;
+    }
+
+    public int numVertices() {
+        return numVertices;
+    }
+
+    public int numArestas() {
+        return destinoSubida.length + origemDescida.length;
+    }
+
+    // Aresta de subida u -> w (-1 se não existe)
+    int arestaSubida(int u, int w) {
+        for (int i = inicioSubida[u]; i < inicioSubida[u + 1]; i++) {
+            if (destinoSubida[i] == w) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Aresta de descida u -> w, guardada na lista de w (-1 se não existe)
+    int arestaDescida(int u, int w) {
+        for (int i = inicioDescida[w]; i < inicioDescida[w + 1]; i++) {
+            if (origemDescida[i] == u) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public void salvar(String caminho) throws IOException {
+        FileChannel canal = FileChannel.open(Paths.get(caminho), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer bloco = ByteBuffer.allocateDirect(4 * ArquivoGrafoBinario.VALORES_POR_BLOCO)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+
+            bloco.putInt(MAGICO);
+            bloco.putInt(VERSAO);
+            bloco.putInt(numVertices);
+            bloco.putInt(destinoSubida.length);
+            bloco.putInt(origemDescida.length);
+
+            escreverVetor(canal, bloco, nivel);
+            escreverVetor(canal, bloco, inicioSubida);
+            escreverVetor(canal, bloco, destinoSubida);
+            escreverVetor(canal, bloco, pesoSubida);
+            escreverVetor(canal, bloco, meioSubida);
+            escreverVetor(canal, bloco, inicioDescida);
+            escreverVetor(canal, bloco, origemDescida);
+            escreverVetor(canal, bloco, pesoDescida);
+            escreverVetor(canal, bloco, meioDescida);
+
+            ArquivoGrafoBinario.descarregar(canal, bloco);
+        } finally {
+            canal.close();
+        }
+    }
+
+    private static void escreverVetor(FileChannel canal, ByteBuffer bloco, int[] vetor) throws IOException {
+        for (int i = 0; i < vetor.length; i++) {
+            ArquivoGrafoBinario.escreverInt(canal, bloco, vetor[i]);
+        }
+    }
+
+    // Lê a hierarquia para vetores em memória: as consultas percorrem os vetores
+    // milhões de vezes, então vale pagar a cópia uma vez na carga
+    public static HierarquiaContracao carregar(String caminho) throws IOException {
+        FileChannel canal = FileChannel.open(Paths.get(caminho), StandardOpenOption.READ);
+        try {
+            long tamanhoArquivo = canal.size();
+            if (tamanhoArquivo < TAMANHO_CABECALHO) {
+                throw new IOException("Arquivo de hierarquia truncado: " + caminho);
+            }
+
+            ByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANHO_CABECALHO)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (cabecalho.getInt(0) != MAGICO || cabecalho.getInt(4) != VERSAO) {
+                throw new IOException("Arquivo nao esta no formato de hierarquia: " + caminho);
+            }
+            int n = cabecalho.getInt(8);
+            int subida = cabecalho.getInt(12);
+            int descida = cabecalho.getInt(16);
+
+            long esperado = TAMANHO_CABECALHO + 4L * (3L * n + 2) + 12L * subida + 12L * descida;
+            if (n < 0 || subida < 0 || descida < 0 || tamanhoArquivo < esperado) {
+                throw new IOException("Arquivo de hierarquia truncado: " + caminho);
+            }
+
+            long posicao = TAMANHO_CABECALHO;
+            int[] nivel = lerVetor(canal, posicao, n);
+            posicao = posicao + 4L * n;
+            int[] inicioSubida = lerVetor(canal, posicao, n + 1);
+            posicao = posicao + 4L * (n + 1);
+            int[] destinoSubida = lerVetor(canal, posicao, subida);
+            posicao = posicao + 4L * subida;
+            int[] pesoSubida = lerVetor(canal, posicao, subida);
+            posicao = posicao + 4L * subida;
+            int[] meioSubida = lerVetor(canal, posicao, subida);
+            posicao = posicao + 4L * subida;
+            int[] inicioDescida = lerVetor(canal, posicao, n + 1);
+            posicao = posicao + 4L * (n + 1);
+            int[] origemDescida = lerVetor(canal, posicao, descida);
+            posicao = posicao + 4L * descida;
+            int[] pesoDescida = lerVetor(canal, posicao, descida);
+            posicao = posicao + 4L * descida;
+            int[] meioDescida = lerVetor(canal, posicao, descida);
+
+            return new HierarquiaContracao(n, nivel, inicioSubida, destinoSubida, pesoSubida, meioSubida,
+                    inicioDescida, origemDescida, pesoDescida, meioDescida);
+        } finally {
+            canal.close();
+        }
+    }
+
+    private static int[] lerVetor(FileChannel canal, long inicio, int quantidade) throws IOException {
+        int[] vetor = new int[quantidade];
+        ArquivoGrafoBinario.mapearInts(canal, inicio, quantidade).get(vetor);
+        return vetor;
+    }
+}
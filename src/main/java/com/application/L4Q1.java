@@ -1,242 +1,142 @@
 package com.application;
 
 import java.io.*;
+import java.util.concurrent.ForkJoinPool;
 
-// Classe que representa um nó da árvore AVL
-class No {
-    int chave;          // valor armazenado no nó
-    No esquerda;        // ponteiro para o filho esquerdo
-    No direita;         // ponteiro para o filho direito
-    int altura;         // altura do nó (necessária para o cálculo do balanceamento)
-
-    public No(int chave) {
-        this.chave = chave;
-        this.esquerda = null;   // inicialmente não há filho à esquerda
-        this.direita = null;    // inicialmente não há filho à direita
-        this.altura = 1;        // um novo nó tem altura 1
-    }
-}
-
-class ArvoreAVL {
-    private No raiz;                // raiz da árvore AVL
-    private PrintWriter saida;      // escritor para saída em arquivo
-    private boolean precisaRotacao; // indica se houve desequilíbrio
-    private int noResponsavel;      // armazena o nó que causou o desbalanceamento
-
-    public ArvoreAVL(PrintWriter saida) {
-        this.raiz = null;
-        this.saida = saida;
-    }
-
-    // Retorna a altura de um nó; se for nulo retorna 0
-    private int obterAltura(No no) {
-        if (no == null) {
-            return 0;
-        }
-        return no.altura;
-    }
-
-    // Calcula o fator de balanceamento (altura direita - altura esquerda)
-    private int calcularFatorBalanceamento(No no) {
-        if (no == null) {
-            return 0;
-        }
-        return obterAltura(no.direita) - obterAltura(no.esquerda);
-    }
-
-    // Atualiza a altura do nó com base em seus filhos
-    private void atualizarAltura(No no) {
-        if (no != null) {
-            int alturaEsq = obterAltura(no.esquerda);
-            int alturaDir = obterAltura(no.direita);
-            no.altura = 1 + (alturaEsq > alturaDir ? alturaEsq : alturaDir);
-        }
-    }
-
-    // Rotação simples à direita (caso LL)
-    private No rotacaoDireita(No y) {
-        No x = y.esquerda;      // filho esquerdo
-        No T2 = x.direita;      // subárvore direita de x
-
-        // Realiza rotação
-        x.direita = y;
-        y.esquerda = T2;
-
-        // Atualiza alturas dos nós envolvidos
-        atualizarAltura(y);
-        atualizarAltura(x);
-
-        return x; // novo topo da subárvore
-    }
-
-    // Rotação simples à esquerda (caso RR)
-    private No rotacaoEsquerda(No x) {
-        No y = x.direita;       // filho direito
-        No T2 = y.esquerda;     // subárvore esquerda de y
-
-        // Realiza rotação
-        y.esquerda = x;
-        x.direita = T2;
-
-        // Atualiza alturas
-        atualizarAltura(x);
-        atualizarAltura(y);
+public class L4Q1 {
+    // Conjuntos lidos e processados por vez no modo paralelo: limita a memória das saídas
+    // em buffer e ainda dá trabalho de sobra para todas as threads
+    private static final int CONJUNTOS_POR_LOTE = 1024;
 
-        return y; // novo topo da subárvore
-    }
+    public static void main(String[] args) {
+        try {
+            // Arquivo de entrada
+            BufferedReader entrada = new BufferedReader(new FileReader("L4Q1_in.txt"));
+            // Arquivo de saída
+            PrintWriter saida = new PrintWriter(new FileWriter("L4Q1_out.txt"));
 
-    // Impressão em ordem (esquerda - raiz - direita)
-    // Mostra também o fator de balanceamento entre parênteses
-    private void imprimirEmOrdem(No no) {
-        if (no != null) {
-            imprimirEmOrdem(no.esquerda);
-            int fb = calcularFatorBalanceamento(no);
-            String sinal = "";
-            if (fb > 0) {
-                sinal = "+";
+            // Com "-silencioso" cada conjunto imprime apenas o resumo final;
+            // com "-paralelo" conjuntos diferentes são processados ao mesmo tempo
+            boolean silencioso = false;
+            boolean paralelo = false;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("-silencioso")) {
+                    silencioso = true;
+                } else if (args[i].equals("-paralelo")) {
+                    paralelo = true;
+                }
             }
-            saida.print(no.chave + "(" + sinal + fb + ") ");
-            imprimirEmOrdem(no.direita);
-        }
-    }
-
-    // Altura total da árvore (altura da raiz)
-    private int obterAlturaTotal() {
-        return obterAltura(raiz);
-    }
-
-    // Insere um valor e registra mensagens de balanceamento
-    public void inserir(int chave) {
-        precisaRotacao = false;   // reset
-        noResponsavel = -1;       // reset
-        raiz = inserirRec(raiz, chave);
-
-        // Se não houve rotação, árvore já estava balanceada
-        if (!precisaRotacao) {
-            saida.println("arvore ja balanceada.");
-        }
-
-        // Imprime estrutura atual
-        imprimirEmOrdem(raiz);
-        saida.println();
-        saida.println(obterAlturaTotal());
-    }
 
-    // Inserção recursiva padrão de árvore AVL
-    private No inserirRec(No no, int chave) {
-        if (no == null) {
-            return new No(chave);
-        }
+            if (paralelo) {
+                processarParalelo(entrada, saida, silencioso, ForkJoinPool.commonPool());
+            } else {
+                processarSequencial(entrada, saida, silencioso);
+            }
 
-        // Caminha na árvore conforme a chave
-        if (chave < no.chave) {
-            no.esquerda = inserirRec(no.esquerda, chave);
-        } else if (chave > no.chave) {
-            no.direita = inserirRec(no.direita, chave);
-        } else {
-            return no; // chave duplicada (não insere)
-        }
+            saida.println();
+            saida.println();
 
-        // Atualiza altura após inserção
-        atualizarAltura(no);
+            entrada.close();
+            saida.close();
 
-        // Calcula fator de balanceamento
-        int fb = calcularFatorBalanceamento(no);
+            System.out.println("Arquivo de saida gerado com sucesso!");
 
-        // Detecta o primeiro nó desbalanceado
-        if (fb < -1 || fb > 1) {
-            if (!precisaRotacao) {
-                precisaRotacao = true;
-                noResponsavel = no.chave;
-                saida.println("no responsavel: " + noResponsavel);
-                imprimirEmOrdem(raiz);
-                saida.println();
-            }
+        } catch (IOException e) {
+            System.out.println("Erro ao processar arquivos: " + e.getMessage());
         }
+    }
 
-        // --- CASOS DE ROTAÇÃO ---
+    private static void processarSequencial(BufferedReader entrada, PrintWriter saida, boolean silencioso)
+            throws IOException {
+        String linha;
+        boolean primeiroConjunto = true;
 
-        // Caso LL (rotação simples à direita)
-        if (fb < -1 && calcularFatorBalanceamento(no.esquerda) <= 0) {
-            if (noResponsavel == no.chave) {
-                saida.println("rotacao direita.");
+        // Lê cada linha de valores
+        while ((linha = entrada.readLine()) != null) {
+            linha = linha.trim();
+            if (linha.isEmpty()) {
+                continue; // ignora linhas em branco
             }
-            return rotacaoDireita(no);
-        }
 
-        // Caso RR (rotação simples à esquerda)
-        if (fb > 1 && calcularFatorBalanceamento(no.direita) >= 0) {
-            if (noResponsavel == no.chave) {
-                saida.println("rotacao esquerda.");
+            if (!primeiroConjunto) {
+                saida.println(); // separa conjuntos
             }
-            return rotacaoEsquerda(no);
-        }
+            primeiroConjunto = false;
 
-        // Caso LR (rotação dupla esquerda-direita)
-        if (fb < -1 && calcularFatorBalanceamento(no.esquerda) > 0) {
-            if (noResponsavel == no.chave) {
-                saida.println("rotacao direita dupla.");
-            }
-            no.esquerda = rotacaoEsquerda(no.esquerda);
-            return rotacaoDireita(no);
+            processarConjunto(linha, saida, silencioso);
         }
-
-        // Caso RL (rotação dupla direita-esquerda)
-        if (fb > 1 && calcularFatorBalanceamento(no.direita) < 0) {
-            if (noResponsavel == no.chave) {
-                saida.println("rotacao esquerda dupla.");
-            }
-            no.direita = rotacaoDireita(no.direita);
-            return rotacaoEsquerda(no);
-        }
-
-        return no; // retorna nó atualizado
     }
-}
 
-public class L4Q1 {
-    public static void main(String[] args) {
-        try {
-            // Arquivo de entrada
-            BufferedReader entrada = new BufferedReader(new FileReader("L4Q1_in.txt"));
-            // Arquivo de saída
-            PrintWriter saida = new PrintWriter(new FileWriter("L4Q1_out.txt"));
-
-            String linha;
-            boolean primeiroConjunto = true;
-
-            // Lê cada linha de valores
-            while ((linha = entrada.readLine()) != null) {
+    // Cada linha é um conjunto independente, então as árvores de linhas diferentes podem
+    // ser montadas em paralelo. Cada conjunto escreve em um buffer próprio e os buffers
+    // são copiados para a saída na ordem das linhas, o que deixa o arquivo idêntico,
+    // byte a byte, ao da execução sequencial.
+    static void processarParalelo(BufferedReader entrada, PrintWriter saida, boolean silencioso,
+                                  ForkJoinPool pool) throws IOException {
+        final String[] linhas = new String[CONJUNTOS_POR_LOTE];
+        final String[] saidas = new String[CONJUNTOS_POR_LOTE];
+        final boolean modoSilencioso = silencioso;
+        boolean primeiroConjunto = true;
+        boolean fimArquivo = false;
+
+        while (!fimArquivo) {
+            // Lê o próximo lote de conjuntos (linhas não vazias)
+            int quantidade = 0;
+            while (quantidade < CONJUNTOS_POR_LOTE) {
+                String linha = entrada.readLine();
+                if (linha == null) {
+                    fimArquivo = true;
+                    break;
+                }
                 linha = linha.trim();
-                if (linha.isEmpty()) {
-                    continue; // ignora linhas em branco
+                if (!linha.isEmpty()) {
+                    linhas[quantidade] = linha;
+                    quantidade++;
+                }
+            }
+
+            // Um conjunto por tarefa: o tamanho das linhas varia muito
+            ExecucaoParalela.paraCada(pool, 0, quantidade, 1, (inicio, fim) -> {
+                for (int i = inicio; i < fim; i++) {
+                    StringWriter buffer = new StringWriter();
+                    PrintWriter escritor = new PrintWriter(buffer);
+                    processarConjunto(linhas[i], escritor, modoSilencioso);
+                    escritor.flush();
+                    saidas[i] = buffer.toString();
                 }
+            });
 
+            for (int i = 0; i < quantidade; i++) {
                 if (!primeiroConjunto) {
                     saida.println(); // separa conjuntos
                 }
                 primeiroConjunto = false;
-
-                String[] valores = linha.split("\\s+"); // separa por espaço
-                ArvoreAVL arvore = new ArvoreAVL(saida); // cria nova árvore para o conjunto
-
-                // Insere cada valor da linha
-                for (int i = 0; i < valores.length; i++) {
-                    int valor = Integer.parseInt(valores[i]);
-                    arvore.inserir(valor);
-                }
+                saida.write(saidas[i]);
+                linhas[i] = null;
+                saidas[i] = null;
             }
+        }
+    }
 
-            saida.println();
-            saida.println();
-
-            entrada.close();
-            saida.close();
+    // Monta a árvore de um conjunto (uma linha de valores) e escreve a sua saída
+    private static void processarConjunto(String linha, PrintWriter saida, boolean silencioso) {
+        String[] valores = linha.split("\\s+"); // separa por espaço
+        // cria nova árvore para o conjunto
+        ArvoreAVL arvore;
+        if (silencioso) {
+            arvore = new ArvoreAVL();
+        } else {
+            arvore = new ArvoreAVL(saida);
+        }
 
-            System.out.println("Arquivo de saida gerado com sucesso!");
+        // Insere cada valor da linha
+        for (int i = 0; i < valores.length; i++) {
+            int valor = Integer.parseInt(valores[i]);
+            arvore.inserir(valor);
+        }
 
-        } catch (IOException e) {
-            System.out.println("Erro ao processar arquivos: " + e.getMessage());
+        if (silencioso) {
+            arvore.imprimirResumo(saida);
         }
     }
 }
@@ -0,0 +1,87 @@
+package com.application;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+// Mapa ordenado (chave int -> valor) baseado em AVL, para muitas threads de leitura
+// e escritas concorrentes.
+//
+// O conteúdo é uma ArvoreAVLPersistente: uma escrita nunca altera um nó existente, ela
+// copia apenas os O(log n) nós do caminho até a chave (e os envolvidos nas rotações) e no
+// final publica a nova versão em um campo volatile. Assim:
+//   - leituras nunca bloqueiam e nunca esperam por escritores; basta ler a versão
+//     uma vez e percorrer uma árvore que ninguém mais vai modificar;
+//   - uma leitura sempre enxerga uma árvore consistente (nunca uma rotação pela metade);
+//   - instantaneo() devolve a versão vigente em O(1), para leituras que precisam de
+//     várias consultas sobre o mesmo estado;
+//   - os escritores se revezam em uma única trava, o que é adequado ao cenário
+//     de muitos leitores e poucos escritores.
+// Versões antigas são recolhidas pelo coletor de lixo quando nenhum leitor as usa mais.
+class MapaAVLConcorrente<V> {
+
+    private volatile ArvoreAVLPersistente<V> versao;  // versão publicada para os leitores
+    private final ReentrantLock travaEscrita = new ReentrantLock();
+
+    public MapaAVLConcorrente() {
+        this.versao = ArvoreAVLPersistente.vazia();
+    }
+
+    // ------------------------------------------------------------------
+    // Leituras (sem trava)
+    // ------------------------------------------------------------------
+
+    public V buscar(int chave) {
+        return versao.buscar(chave);
+    }
+
+    public boolean contem(int chave) {
+        return versao.contem(chave);
+    }
+
+    public int tamanho() {
+        return versao.tamanho();
+    }
+
+    // Versão vigente, imutável: continua a mesma mesmo com escritas posteriores
+    public ArvoreAVLPersistente<V> instantaneo() {
+        return versao;
+    }
+
+    // Percorre em ordem a versão vigente no momento da chamada
+    public void paraCada(BiConsumer<Integer, V> acao) {
+        versao.paraCada(acao);
+    }
+
+    // ------------------------------------------------------------------
+    // Escritas (serializadas pela trava)
+    // ------------------------------------------------------------------
+
+    // Associa o valor à chave; retorna o valor anterior (ou null)
+    public V inserir(int chave, V valor) {
+        travaEscrita.lock();
+        try {
+            ArvoreAVLPersistente<V> atual = versao;
+            V anterior = atual.buscar(chave);
+            versao = atual.inserir(chave, valor);
+            return anterior;
+        } finally {
+            travaEscrita.unlock();
+        }
+    }
+
+    // Remove a chave; retorna o valor removido (ou null se não existia)
+    public V remover(int chave) {
+        travaEscrita.lock();
+        try {
+            ArvoreAVLPersistente<V> atual = versao;
+            V anterior = atual.buscar(chave);
+            if (!atual.contem(chave)) {
+                return null;
+            }
+            versao = atual.remover(chave);
+            return anterior;
+        } finally {
+            travaEscrita.unlock();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.application;
+
+// Heurística ALT (A*, Landmarks e desigualdade Triangular) para grafos direcionados.
+// Alguns vértices são escolhidos como marcos e, no pré-processamento, são guardadas
+// as distâncias de cada marco L até todos os vértices e de todos os vértices até L.
+// Pela desigualdade triangular, para qualquer marco:
+//   dist(v, t) >= dist(L, t) - dist(L, v)
+//   dist(v, t) >= dist(v, L) - dist(t, L)
+// e o maior desses limites é uma estimativa admissível e consistente.
+//
+// As distâncias ficam em vetores planos indexados por vertice * numMarcos + marco,
+// então estimar lê dois trechos contíguos de numMarcos inteiros.
+class MarcosALT implements Heuristica {
+    private static final int INFINITO = Integer.MAX_VALUE;
+
+    private int numVertices;
+    private int numMarcos;
+    private int[] marcos;      // Vértices escolhidos como marcos
+    private int[] daMarco;     // dist(marco, v) em [v * numMarcos + marco]
+    private int[] ateMarco;    // dist(v, marco) em [v * numMarcos + marco]
+
+    public MarcosALT(Grafo grafo, int quantidade) {
+        this(grafo, ConstrutorGrafo.inverso(grafo), quantidade);
+    }
+
+    // O inverso pode ser compartilhado com a ConsultaCaminho
+    public MarcosALT(Grafo grafo, Grafo inverso, int quantidade) {
+        this.numVertices = grafo.numVertices();
+        if (quantidade > numVertices) {
+            quantidade = numVertices;
+        }
+        this.numMarcos = quantidade;
+        this.marcos = new int[quantidade];
+        this.daMarco = new int[numVertices * quantidade];
+        this.ateMarco = new int[numVertices * quantidade];
+
+        if (quantidade > 0) {
+            escolherMarcos(grafo, inverso);
+        }
+    }
+
+    // Escolha "mais distante": cada novo marco é o vértice mais longe dos marcos já
+    // escolhidos, o que espalha os marcos pela borda do grafo, onde os limites são melhores.
+    // Vértices que nenhum marco alcança são escolhidos primeiro.
+    private void escolherMarcos(Grafo grafo, Grafo inverso) {
+        Dijkstra frente = new Dijkstra(grafo, new MinHeapPrimitiva(numVertices));
+        Dijkstra tras = new Dijkstra(inverso, new MinHeapPrimitiva(numVertices));
+
+        // O primeiro marco é o vértice mais distante do vértice 0
+        frente.calcular(0);
+        int proximo = maisDistante(frente.obterDistancias());
+
+        int[] menorDistancia = new int[numVertices]; // Distância ao marco mais próximo
+        for (int v = 0; v < numVertices; v++) {
+            menorDistancia[v] = INFINITO;
+        }
+
+        for (int l = 0; l < numMarcos; l++) {
+            marcos[l] = proximo;
+
+            frente.calcular(proximo);
+            tras.calcular(proximo);
+            int[] distanciasFrente = frente.obterDistancias();
+            int[] distanciasTras = tras.obterDistancias();
+
+            for (int v = 0; v < numVertices; v++) {
+                daMarco[v * numMarcos + l] = distanciasFrente[v];
+                ateMarco[v * numMarcos + l] = distanciasTras[v];
+                if (distanciasFrente[v] < menorDistancia[v]) {
+                    menorDistancia[v] = distanciasFrente[v];
+                }
+            }
+
+            proximo = maisDistante(menorDistancia);
+        }
+    }
+
+    // Vértice de maior distância (inalcançáveis contam como os mais distantes)
+    private int maisDistante(int[] distancia) {
+        int melhor = 0;
+        for (int v = 1; v < numVertices; v++) {
+            if (distancia[v] > distancia[melhor]) {
+                melhor = v;
+            }
+        }
+        return melhor;
+    }
+
+    public int estimar(int vertice, int destino) {
+        int baseV = vertice * numMarcos;
+        int baseT = destino * numMarcos;
+        int estimativa = 0;
+
+        for (int l = 0; l < numMarcos; l++) {
+            // dist(L, t) - dist(L, v)
+            int marcoAteDestino = daMarco[baseT + l];
+            int marcoAteVertice = daMarco[baseV + l];
+            if (marcoAteDestino != INFINITO && marcoAteVertice != INFINITO
+                    && marcoAteDestino - marcoAteVertice > estimativa) {
+                estimativa = marcoAteDestino - marcoAteVertice;
+            }
+
+            // dist(v, L) - dist(t, L)
+            int destinoAteMarco = ateMarco[baseT + l];
+            if (destinoAteMarco != INFINITO) {
+                int verticeAteMarco = ateMarco[baseV + l];
+                if (verticeAteMarco == INFINITO) {
+                    // t chega em L mas v não, então v também não chega em t
+                    return INFINITO;
+                }
+                if (verticeAteMarco - destinoAteMarco > estimativa) {
+                    estimativa = verticeAteMarco - destinoAteMarco;
+                }
+            }
+        }
+        return estimativa;
+    }
+
+    public int obterNumMarcos() {
+        return numMarcos;
+    }
+
+    public int[] obterMarcos() {
+        return marcos;
+    }
+}
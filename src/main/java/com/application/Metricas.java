@@ -0,0 +1,197 @@
+package com.application;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+
+// Contadores das operações internas da ArvoreAVL e da MinHeap, para acompanhar em produção
+// o que as estruturas estão fazendo sem depender do texto impresso pela árvore.
+//
+// A instrumentação só é ligada com -Dl4.metricas=true. ATIVO é static final, então com
+// ela desligada o JIT trata cada "if (Metricas.ATIVO)" como constante falsa e remove o
+// bloco inteiro: o custo fica próximo de zero (ver MetricasBenchmark).
+// Ligada, cada contador é um LongAdder, que espalha os incrementos de threads diferentes
+// em células separadas em vez de disputar uma única variável.
+//
+// Os valores são expostos de duas formas:
+//   - JMX, no objeto com.application:type=Metricas (jconsole, VisualVM, agentes de coleta);
+//   - JFR, no evento periódico com.application.Metricas, gravado a cada segundo
+//     enquanto houver uma gravação ativa (por exemplo -XX:StartFlightRecording).
+final class Metricas implements MetricasMBean {
+    static final boolean ATIVO = Boolean.getBoolean("l4.metricas");
+
+    // ArvoreAVL
+    static final LongAdder ROTACOES_LL = new LongAdder();
+    static final LongAdder ROTACOES_RR = new LongAdder();
+    static final LongAdder ROTACOES_LR = new LongAdder();
+    static final LongAdder ROTACOES_RL = new LongAdder();
+    static final LongAdder INSERCOES_AVL = new LongAdder();
+    static final LongAdder COMPARACOES_AVL = new LongAdder();
+    static final LongAccumulator ALTURA_MAXIMA_AVL = new LongAccumulator(Math::max, 0);
+
+    // MinHeap
+    static final LongAdder INSERCOES_HEAP = new LongAdder();
+    static final LongAdder TROCAS_SUBIDA = new LongAdder();
+    static final LongAdder TROCAS_DESCIDA = new LongAdder();
+    static final LongAdder DIMINUICOES_CHAVE = new LongAdder();
+    static final LongAdder EXTRACOES = new LongAdder();
+
+    static {
+        if (ATIVO) {
+            registrar();
+        }
+    }
+
+    private Metricas() {
+    }
+
+    // Inserção na AVL que comparou a chave com "comparacoes" nós
+    static void registrarInsercaoAVL(int comparacoes, int altura) {
+        INSERCOES_AVL.increment();
+        COMPARACOES_AVL.add(comparacoes);
+        ALTURA_MAXIMA_AVL.accumulate(altura);
+    }
+
+    private static void registrar() {
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(new Metricas(), new ObjectName("com.application:type=Metricas"));
+        } catch (JMException e) {
+            System.out.println("Erro ao registrar metricas no JMX: " + e.getMessage());
+        }
+
+        FlightRecorder.addPeriodicEvent(EventoMetricas.class, () -> {
+            EventoMetricas evento = new EventoMetricas();
+            evento.rotacoesLL = ROTACOES_LL.sum();
+            evento.rotacoesRR = ROTACOES_RR.sum();
+            evento.rotacoesLR = ROTACOES_LR.sum();
+            evento.rotacoesRL = ROTACOES_RL.sum();
+            evento.insercoesAVL = INSERCOES_AVL.sum();
+            evento.comparacoesAVL = COMPARACOES_AVL.sum();
+            evento.alturaMaximaAVL = ALTURA_MAXIMA_AVL.get();
+            evento.insercoesHeap = INSERCOES_HEAP.sum();
+            evento.trocasSubida = TROCAS_SUBIDA.sum();
+            evento.trocasDescida = TROCAS_DESCIDA.sum();
+            evento.diminuicoesChave = DIMINUICOES_CHAVE.sum();
+            evento.extracoes = EXTRACOES.sum();
+            evento.commit();
+        });
+    }
+
+    // Retrato dos contadores (valores acumulados desde o início ou o último zerar)
+    @Name("com.application.Metricas")
+    @Label("Metricas das estruturas")
+    @Category("L4 Algoritmos")
+    @Period("1 s")
+    static class EventoMetricas extends Event {
+        @Label("Rotacoes LL")
+        long rotacoesLL;
+        @Label("Rotacoes RR")
+        long rotacoesRR;
+        @Label("Rotacoes LR")
+        long rotacoesLR;
+        @Label("Rotacoes RL")
+        long rotacoesRL;
+        @Label("Insercoes AVL")
+        long insercoesAVL;
+        @Label("Comparacoes AVL")
+        long comparacoesAVL;
+        @Label("Altura maxima AVL")
+        long alturaMaximaAVL;
+        @Label("Insercoes heap")
+        long insercoesHeap;
+        @Label("Trocas na subida")
+        long trocasSubida;
+        @Label("Trocas na descida")
+        long trocasDescida;
+        @Label("Diminuicoes de chave")
+        long diminuicoesChave;
+        @Label("Extracoes")
+        long extracoes;
+    }
+
+    // ------------------------------------------------------------------
+    // MetricasMBean
+    // ------------------------------------------------------------------
+
+    public long getRotacoesLL() {
+        return ROTACOES_LL.sum();
+    }
+
+    public long getRotacoesRR() {
+        return ROTACOES_RR.sum();
+    }
+
+    public long getRotacoesLR() {
+        return ROTACOES_LR.sum();
+    }
+
+    public long getRotacoesRL() {
+        return ROTACOES_RL.sum();
+    }
+
+    public long getInsercoesAVL() {
+        return INSERCOES_AVL.sum();
+    }
+
+    public long getComparacoesAVL() {
+        return COMPARACOES_AVL.sum();
+    }
+
+    public double getComparacoesPorInsercao() {
+        long insercoes = INSERCOES_AVL.sum();
+        if (insercoes == 0) {
+            return 0;
+        }
+        return (double) COMPARACOES_AVL.sum() / insercoes;
+    }
+
+    public long getAlturaMaximaAVL() {
+        return ALTURA_MAXIMA_AVL.get();
+    }
+
+    public long getInsercoesHeap() {
+        return INSERCOES_HEAP.sum();
+    }
+
+    public long getTrocasSubida() {
+        return TROCAS_SUBIDA.sum();
+    }
+
+    public long getTrocasDescida() {
+        return TROCAS_DESCIDA.sum();
+    }
+
+    public long getDiminuicoesChave() {
+        return DIMINUICOES_CHAVE.sum();
+    }
+
+    public long getExtracoes() {
+        return EXTRACOES.sum();
+    }
+
+    public void zerar() {
+        ROTACOES_LL.reset();
+        ROTACOES_RR.reset();
+        ROTACOES_LR.reset();
+        ROTACOES_RL.reset();
+        INSERCOES_AVL.reset();
+        COMPARACOES_AVL.reset();
+        ALTURA_MAXIMA_AVL.reset();
+        INSERCOES_HEAP.reset();
+        TROCAS_SUBIDA.reset();
+        TROCAS_DESCIDA.reset();
+        DIMINUICOES_CHAVE.reset();
+        EXTRACOES.reset();
+    }
+}
@@ -0,0 +1,33 @@
+package com.application;
+
+// Interface JMX dos contadores de Metricas (objeto com.application:type=Metricas).
+// Precisa ser pública e ter o nome da classe seguido de MBean para o JMX reconhecê-la.
+public interface MetricasMBean {
+    long getRotacoesLL();
+
+    long getRotacoesRR();
+
+    long getRotacoesLR();
+
+    long getRotacoesRL();
+
+    long getInsercoesAVL();
+
+    long getComparacoesAVL();
+
+    double getComparacoesPorInsercao();
+
+    long getAlturaMaximaAVL();
+
+    long getInsercoesHeap();
+
+    long getTrocasSubida();
+
+    long getTrocasDescida();
+
+    long getDiminuicoesChave();
+
+    long getExtracoes();
+
+    void zerar();
+}
@@ -0,0 +1,147 @@
+package com.application;
+
+// Classe que representa um elemento dentro da MinHeap.
+// Cada elemento guarda um vértice e o peso associado.
+// OBS IMPORTANTE: Nesta implementação, "peso" é usado como chave de comparação.
+class ElementoHeap {
+    int vertice;
+    int peso;
+
+    public ElementoHeap(int vertice, int peso) {
+        this.vertice = vertice;
+        this.peso = peso;
+    }
+}
+
+// Implementação de uma MinHeap específica para armazenar ElementoHeap.
+// OBS IMPORTANTE: Esta heap NÃO é genérica, funciona apenas para ElementoHeap.
+// Isso não causa erro no algoritmo de Prim, mas impede reuso da classe para outros tipos.
+// É a fila de prioridade padrão de Prim e Dijkstra (referência para as demais variantes).
+class MinHeap implements FilaPrioridade {
+    private ElementoHeap[] heap; // Array que representa a heap
+    private int[] posicao;       // Guarda a posição atual de cada vértice dentro da heap
+    private int tamanho;         // Número de elementos na heap
+    private int capacidade;      // Capacidade máxima
+
+    public MinHeap(int capacidade) {
+        this.capacidade = capacidade;
+        this.tamanho = 0;
+        this.heap = new ElementoHeap[capacidade];
+        this.posicao = new int[capacidade];
+
+        // Inicializa todas posições como -1, indicando que nenhum vértice está na heap
+        for (int i = 0; i < capacidade; i++) {
+            posicao[i] = -1;
+        }
+    }
+
+    // Troca dois elementos da heap e atualiza suas posições
+    private void trocar(int i, int j) {
+        posicao[heap[i].vertice] = j;
+        posicao[heap[j].vertice] = i;
+
+        ElementoHeap temp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = temp;
+    }
+
+    // Move o elemento para cima até restaurar a propriedade de MinHeap
+    private void heapifyParaCima(int idx) {
+        while (idx > 0) {
+            int pai = (idx - 1) / 2;
+            if (heap[idx].peso < heap[pai].peso) {
+                if (Metricas.ATIVO) {
+                    Metricas.TROCAS_SUBIDA.increment();
+                }
+                trocar(idx, pai);
+                idx = pai;
+            } else {
+                break;
+            }
+        }
+    }
+
+    // Move o elemento para baixo até restaurar a propriedade de MinHeap
+    private void heapifyParaBaixo(int idx) {
+        int menor = idx;
+
+        while (true) {
+            int esquerda = 2 * idx + 1;
+            int direita = 2 * idx + 2;
+
+            if (esquerda < tamanho && heap[esquerda].peso < heap[menor].peso) {
+                menor = esquerda;
+            }
+
+            if (direita < tamanho && heap[direita].peso < heap[menor].peso) {
+                menor = direita;
+            }
+
+            if (menor != idx) {
+                if (Metricas.ATIVO) {
+                    Metricas.TROCAS_DESCIDA.increment();
+                }
+                trocar(idx, menor);
+                idx = menor;
+            } else {
+                break;
+            }
+        }
+    }
+
+    // Insere um novo vértice e peso na heap
+    public void inserir(int vertice, int peso) {
+        if (Metricas.ATIVO) {
+            Metricas.INSERCOES_HEAP.increment();
+        }
+        ElementoHeap elemento = new ElementoHeap(vertice, peso);
+        heap[tamanho] = elemento;
+        posicao[vertice] = tamanho;
+        tamanho++;
+        heapifyParaCima(tamanho - 1);
+    }
+
+    // Extrai o vértice com menor peso (raiz da heap); retorna -1 se estiver vazia
+    public int extrairMinimo() {
+        if (tamanho == 0) {
+            return -1;
+        }
+
+        if (Metricas.ATIVO) {
+            Metricas.EXTRACOES.increment();
+        }
+        ElementoHeap minimo = heap[0];
+        posicao[minimo.vertice] = -1; // Marca vértice como removido
+
+        tamanho--;
+        if (tamanho > 0) {
+            heap[0] = heap[tamanho];
+            posicao[heap[0].vertice] = 0;
+            heapifyParaBaixo(0);
+        }
+
+        return minimo.vertice;
+    }
+
+    // Atualiza o peso de um vértice já existente na heap
+    public void diminuirChave(int vertice, int novoPeso) {
+        if (Metricas.ATIVO) {
+            Metricas.DIMINUICOES_CHAVE.increment();
+        }
+        int idx = posicao[vertice];
+        if (idx == -1) {
+            return;
+        }
+
+        heap[idx].peso = novoPeso;
+        heapifyParaCima(idx);
+    }
+
+    public boolean estaVazio() {
+        return tamanho == 0;
+    }
+
+    public boolean contem(int vertice) {
+        return posicao[vertice] != -1;
+    }
+}
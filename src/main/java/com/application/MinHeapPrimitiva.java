@@ -0,0 +1,144 @@
+package com.application;
+
+// Variante da MinHeap que não aloca nenhum objeto por operação.
+// Cada elemento é empacotado em um único long: a chave ocupa os 32 bits altos
+// e o vértice os 32 bits baixos. Comparar dois longs equivale a comparar as chaves
+// (e, no empate, os vértices), então a heap inteira mora em um único vetor contíguo.
+// O vetor posicao continua indexado pelo vértice para permitir o diminuirChave.
+class MinHeapPrimitiva implements FilaPrioridade {
+    private long[] heap;      // Elementos empacotados (chave << 32 | vértice)
+    private int[] posicao;    // Posição atual de cada vértice dentro da heap (-1 se ausente)
+    private int tamanho;      // Número de elementos na heap
+    private int capacidade;   // Capacidade máxima
+
+    public MinHeapPrimitiva(int capacidade) {
+        this.capacidade = capacidade;
+        this.tamanho = 0;
+        this.heap = new long[capacidade];
+        this.posicao = new int[capacidade];
+
+        // Nenhum vértice está na heap no início
+        for (int i = 0; i < capacidade; i++) {
+            posicao[i] = -1;
+        }
+    }
+
+    private static long empacotar(int vertice, int chave) {
+        return ((long) chave << 32) | (vertice & 0xFFFFFFFFL);
+    }
+
+    private static int vertice(long elemento) {
+        return (int) elemento;
+    }
+
+    private static int chave(long elemento) {
+        return (int) (elemento >> 32);
+    }
+
+    // Sobe o elemento abrindo um "buraco": os pais maiores descem uma posição
+    // e o elemento é escrito uma única vez no lugar final (sem trocas completas)
+    private void heapifyParaCima(int idx, long elemento) {
+        while (idx > 0) {
+            int pai = (idx - 1) >>> 1;
+            long elementoPai = heap[pai];
+            if (elemento >= elementoPai) {
+                break;
+            }
+            heap[idx] = elementoPai;
+            posicao[vertice(elementoPai)] = idx;
+            idx = pai;
+        }
+        heap[idx] = elemento;
+        posicao[vertice(elemento)] = idx;
+    }
+
+    // Desce o elemento pelo mesmo esquema de "buraco"
+    private void heapifyParaBaixo(int idx, long elemento) {
+        while (true) {
+            int esquerda = 2 * idx + 1;
+            if (esquerda >= tamanho) {
+                break;
+            }
+
+            int menor = esquerda;
+            long elementoMenor = heap[esquerda];
+            int direita = esquerda + 1;
+            if (direita < tamanho && heap[direita] < elementoMenor) {
+                menor = direita;
+                elementoMenor = heap[direita];
+            }
+
+            if (elemento <= elementoMenor) {
+                break;
+            }
+            heap[idx] = elementoMenor;
+            posicao[vertice(elementoMenor)] = idx;
+            idx = menor;
+        }
+        heap[idx] = elemento;
+        posicao[vertice(elemento)] = idx;
+    }
+
+    // Insere um novo vértice com a chave informada
+    public void inserir(int vertice, int chave) {
+        tamanho++;
+        heapifyParaCima(tamanho - 1, empacotar(vertice, chave));
+    }
+
+    // Extrai o vértice de menor chave; retorna -1 se a heap estiver vazia
+    public int extrairMinimo() {
+        if (tamanho == 0) {
+            return -1;
+        }
+
+        int minimo = vertice(heap[0]);
+        posicao[minimo] = -1; // Marca vértice como removido
+
+        tamanho--;
+        if (tamanho > 0) {
+            heapifyParaBaixo(0, heap[tamanho]);
+        }
+
+        return minimo;
+    }
+
+    // Diminui a chave de um vértice que ainda está na heap
+    public void diminuirChave(int vertice, int novaChave) {
+        int idx = posicao[vertice];
+        if (idx == -1) {
+            return;
+        }
+
+        heapifyParaCima(idx, empacotar(vertice, novaChave));
+    }
+
+    // Menor chave da heap (a heap não pode estar vazia)
+    public int chaveMinima() {
+        return chave(heap[0]);
+    }
+
+    // Esvazia a heap em O(tamanho), sem percorrer o vetor de posições inteiro
+    public void limpar() {
+        for (int i = 0; i < tamanho; i++) {
+            posicao[vertice(heap[i])] = -1;
+        }
+        tamanho = 0;
+    }
+
+    // Chave atual de um vértice presente na heap
+    public int chaveDe(int vertice) {
+        return chave(heap[posicao[vertice]]);
+    }
+
+    public boolean estaVazio() {
+        return tamanho == 0;
+    }
+
+    public boolean contem(int vertice) {
+        return posicao[vertice] != -1;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+}
@@ -0,0 +1,163 @@
+package com.application;
+
+// Algoritmo de Prim sobre um grafo em formato CSR.
+// Para cada vértice extraído da heap são percorridas apenas as arestas que realmente
+// existem, então a execução custa O((V + E) log V) em vez de O(V²).
+class Prim {
+    private Grafo grafo;       // Grafo não direcionado (cada aresta aparece nos dois sentidos)
+    private int numVertices;
+    private FilaPrioridade heap; // Lista de prioridade escolhida na construção
+    private boolean sobDemanda; // Insere cada vértice na heap só quando ele é alcançado
+    private int[] pai;         // Guarda o pai de cada vértice na MST
+    private int[] chave;       // Menor peso para conectar cada vértice
+
+    public Prim(Grafo grafo) {
+        this(grafo, new MinHeap(grafo.numVertices()));
+    }
+
+    // Permite escolher a lista de prioridade conforme o formato do grafo
+    // (por exemplo, new HeapDAria(n, 4) para grafos grandes e esparsos).
+    // A fila precisa ter capacidade para todos os vértices e estar vazia.
+    // OBS: HeapRadix não serve aqui, pois as chaves do Prim não são monótonas.
+    public Prim(Grafo grafo, FilaPrioridade heap) {
+        this(grafo, heap, false);
+    }
+
+    // Com sobDemanda = true a heap não é pré-populada com os V vértices: um vértice
+    // só entra quando alguma aresta o alcança pela primeira vez, e daí em diante usa
+    // o diminuirChave normal. A heap guarda apenas a fronteira da árvore, então em grafos
+    // esparsos ela fica bem menor que V e cada operação toca menos memória.
+    public Prim(Grafo grafo, FilaPrioridade heap, boolean sobDemanda) {
+        this.grafo = grafo;
+        this.numVertices = grafo.numVertices();
+        this.heap = heap;
+        this.sobDemanda = sobDemanda;
+    }
+
+    // Mantido para quem ainda possui a matriz de adjacência (0 indica ausência de aresta)
+    public Prim(int[][] grafo, int numVertices) {
+        this(ConstrutorGrafo.deMatriz(grafo, numVertices));
+    }
+
+    public void executar() {
+        calcular();
+        imprimirResultado();
+    }
+
+    // Calcula a MST sem imprimir nada; o resultado fica em pai e chave
+    public void calcular() {
+        pai = new int[numVertices];
+        chave = new int[numVertices];
+        boolean[] incluido = new boolean[numVertices]; // Marca vértices já incluídos
+
+        // Inicializa estruturas
+        for (int i = 0; i < numVertices; i++) {
+            chave[i] = Integer.MAX_VALUE;
+            incluido[i] = false;
+            pai[i] = -1;
+        }
+
+        if (numVertices == 0) {
+            return;
+        }
+
+        if (sobDemanda) {
+            calcularSobDemanda(incluido);
+            return;
+        }
+
+        // Começa pelo vértice 0
+        chave[0] = 0;
+        heap.inserir(0, 0);
+
+        // Insere os demais vértices na heap com peso infinito
+        for (int i = 1; i < numVertices; i++) {
+            heap.inserir(i, Integer.MAX_VALUE);
+        }
+
+        // Enquanto houver vértices na heap
+        while (!heap.estaVazio()) {
+            int u = heap.extrairMinimo();
+            incluido[u] = true;
+
+            // Percorre somente os vizinhos reais de u.
+            // Como a aresta é explícita no CSR, pesos 0 são arestas válidas.
+            int fim = grafo.fim(u);
+            for (int i = grafo.inicio(u); i < fim; i++) {
+                int v = grafo.destino(i);
+                int peso = grafo.peso(i);
+
+                if (!incluido[v] && peso < chave[v]) {
+                    pai[v] = u;
+                    chave[v] = peso;
+                    heap.diminuirChave(v, chave[v]);
+                }
+            }
+        }
+    }
+
+    // Variante que insere os vértices na heap à medida que são alcançados
+    private void calcularSobDemanda(boolean[] incluido) {
+        // Cada volta do laço externo cresce a árvore do componente de "raiz";
+        // em grafo desconexo a próxima raiz é o primeiro vértice ainda não incluído
+        for (int raiz = 0; raiz < numVertices; raiz++) {
+            if (incluido[raiz]) {
+                continue;
+            }
+
+            chave[raiz] = 0;
+            heap.inserir(raiz, 0);
+
+            while (!heap.estaVazio()) {
+                int u = heap.extrairMinimo();
+                incluido[u] = true;
+
+                int fim = grafo.fim(u);
+                for (int i = grafo.inicio(u); i < fim; i++) {
+                    int v = grafo.destino(i);
+                    if (incluido[v]) {
+                        continue;
+                    }
+
+                    int peso = grafo.peso(i);
+                    if (!heap.contem(v)) {
+                        // Primeira vez que v é alcançado
+                        pai[v] = u;
+                        chave[v] = peso;
+                        heap.inserir(v, peso);
+                    } else if (peso < chave[v]) {
+                        pai[v] = u;
+                        chave[v] = peso;
+                        heap.diminuirChave(v, peso);
+                    }
+                }
+            }
+        }
+    }
+
+    public int[] obterPais() {
+        return pai;
+    }
+
+    public int[] obterChaves() {
+        return chave;
+    }
+
+    private void imprimirResultado() {
+        long pesoTotal = 0; // 64 bits: a soma de muitos pesos int pode estourar
+
+        System.out.println("Arvore Geradora Minima (Algoritmo de Prim):");
+        System.out.println("Aresta \t\tPeso");
+
+        for (int i = 1; i < numVertices; i++) {
+            // Em grafo desconexo a raiz de cada componente não tem aresta até um pai
+            if (pai[i] == -1) {
+                continue;
+            }
+            System.out.println(pai[i] + " - " + i + "\t\t" + chave[i]);
+            pesoTotal = pesoTotal + chave[i];
+        }
+
+        System.out.println("\nPeso total da MST: " + pesoTotal);
+    }
+}
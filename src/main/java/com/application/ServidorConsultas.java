@@ -0,0 +1,173 @@
+package com.application;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Executa lotes de consultas de menor caminho sobre um mesmo grafo, dividindo o lote
+// entre as threads de um ForkJoinPool. Há dois tipos de lote:
+//   resolver         - pares origem -> destino, cada um com a estratégia escolhida
+//                      (Dijkstra com parada antecipada, bidirecional ou A* com marcos);
+//   resolverOrigens  - origens isoladas, cada uma com o Dijkstra completo até todos os vértices.
+//
+// Os espaços de trabalho (ConsultaCaminho: vetores e heaps de tamanho V) pertencem ao
+// servidor, não às threads: cada tarefa pega um espaço livre, usa-o nas suas consultas e o
+// devolve. Só são criados espaços enquanto todos estiverem em uso, então existem no máximo
+// tantos quanto as tarefas que rodaram ao mesmo tempo. Como a ConsultaCaminho reinicia por
+// carimbo de geração, depois do aquecimento uma consulta não aloca nada e não toca em
+// nenhum vetor de tamanho V além dos vértices que visita; só a divisão do lote em tarefas
+// aloca, e uma vez por lote, não por consulta.
+// fechar() solta os espaços; sem ela eles são recolhidos junto com o servidor, já que
+// nenhuma thread do pool guarda referência a eles.
+//
+// O grafo (e o inverso e os marcos, quando usados) são só lidos, então são
+// compartilhados por todas as threads.
+class ServidorConsultas {
+    public static final int DIJKSTRA = 0;
+    public static final int BIDIRECIONAL = 1;
+    public static final int ALT = 2;
+
+    private static final int CONSULTAS_POR_TAREFA = 16;
+
+    private final Grafo grafo;
+    private final Grafo inverso;       // null se a estratégia não precisar
+    private final MarcosALT marcos;    // null se a estratégia não for ALT
+    private final int estrategia;
+    private final ForkJoinPool pool;
+
+    // Espaços de trabalho livres, em pilha (protegidos pelo monitor do servidor)
+    private ConsultaCaminho[] livres;
+    private int quantidadeLivres;
+    private boolean fechado;
+
+    public ServidorConsultas(Grafo grafo, int estrategia) {
+        this(grafo, estrategia, ForkJoinPool.commonPool());
+    }
+
+    public ServidorConsultas(Grafo grafo, int estrategia, ForkJoinPool pool) {
+        if (estrategia != DIJKSTRA && estrategia != BIDIRECIONAL && estrategia != ALT) {
+            throw new IllegalArgumentException("Estrategia desconhecida: " + estrategia);
+        }
+        this.grafo = grafo;
+        this.estrategia = estrategia;
+        this.pool = pool;
+
+        // O pré-processamento é feito uma vez, antes de qualquer consulta
+        if (estrategia == DIJKSTRA) {
+            this.inverso = null;
+            this.marcos = null;
+        } else {
+            this.inverso = ConstrutorGrafo.inverso(grafo);
+            this.marcos = estrategia == ALT ? new MarcosALT(grafo, inverso, 8) : null;
+        }
+
+        this.livres = new ConsultaCaminho[pool.getParallelism()];
+        this.quantidadeLivres = 0;
+        this.fechado = false;
+    }
+
+    // Resolve as consultas origens[i] -> destinos[i] e escreve as distâncias em resultado[i]
+    // (Integer.MAX_VALUE se o destino for inalcançável). Bloqueia até o lote terminar.
+    public void resolver(final int[] origens, final int[] destinos, final int[] resultado) {
+        if (origens.length != destinos.length || resultado.length < origens.length) {
+            throw new IllegalArgumentException("Lote com tamanhos incompativeis");
+        }
+
+        ExecucaoParalela.paraCada(pool, 0, origens.length, CONSULTAS_POR_TAREFA, (inicio, fim) -> {
+            ConsultaCaminho consulta = emprestar();
+            try {
+                for (int i = inicio; i < fim; i++) {
+                    resultado[i] = resolverUma(consulta, origens[i], destinos[i]);
+                }
+            } finally {
+                devolver(consulta);
+            }
+        });
+    }
+
+    public int[] resolver(int[] origens, int[] destinos) {
+        int[] resultado = new int[origens.length];
+        resolver(origens, destinos, resultado);
+        return resultado;
+    }
+
+    // Dijkstra completo a partir de cada origem: distancias[i][v] recebe a distância de
+    // origens[i] até v (Integer.MAX_VALUE se inalcançável). Cada linha precisa ter ao menos
+    // numVertices posições; reaproveitar a matriz entre lotes evita qualquer alocação.
+    public void resolverOrigens(final int[] origens, final int[][] distancias) {
+        if (distancias.length < origens.length) {
+            throw new IllegalArgumentException("Lote com tamanhos incompativeis");
+        }
+
+        // Uma origem por tarefa: cada uma já percorre o grafo inteiro
+        ExecucaoParalela.paraCada(pool, 0, origens.length, 1, (inicio, fim) -> {
+            ConsultaCaminho consulta = emprestar();
+            try {
+                for (int i = inicio; i < fim; i++) {
+                    consulta.todasDistancias(origens[i], distancias[i]);
+                }
+            } finally {
+                devolver(consulta);
+            }
+        });
+    }
+
+    public int[][] resolverOrigens(int[] origens) {
+        int[][] distancias = new int[origens.length][grafo.numVertices()];
+        resolverOrigens(origens, distancias);
+        return distancias;
+    }
+
+    private int resolverUma(ConsultaCaminho consulta, int origem, int destino) {
+        if (estrategia == BIDIRECIONAL) {
+            return consulta.bidirecional(origem, destino);
+        } else if (estrategia == ALT) {
+            return consulta.aEstrela(origem, destino, marcos);
+        }
+        return consulta.dijkstra(origem, destino);
+    }
+
+    // Pega um espaço livre ou, se todos estiverem em uso, cria um novo (fora da trava)
+    private ConsultaCaminho emprestar() {
+        synchronized (this) {
+            if (fechado) {
+                throw new IllegalStateException("Servidor de consultas fechado");
+            }
+            if (quantidadeLivres > 0) {
+                quantidadeLivres--;
+                ConsultaCaminho consulta = livres[quantidadeLivres];
+                livres[quantidadeLivres] = null;
+                return consulta;
+            }
+        }
+        return new ConsultaCaminho(grafo, inverso);
+    }
+
+    private synchronized void devolver(ConsultaCaminho consulta) {
+        if (fechado) {
+            return; // descartado: fica para o coletor de lixo
+        }
+        if (quantidadeLivres == livres.length) {
+            ConsultaCaminho[] novo = new ConsultaCaminho[livres.length * 2 + 1];
+            for (int i = 0; i < quantidadeLivres; i++) {
+                novo[i] = livres[i];
+            }
+            livres = novo;
+        }
+        livres[quantidadeLivres] = consulta;
+        quantidadeLivres++;
+    }
+
+    // Quantidade de espaços de trabalho ociosos guardados pelo servidor
+    public synchronized int obterEspacosLivres() {
+        return quantidadeLivres;
+    }
+
+    // Solta os espaços de trabalho (O(threads x V) de memória). Lotes já em andamento
+    // terminam normalmente; novos lotes passam a falhar com IllegalStateException.
+    public synchronized void fechar() {
+        fechado = true;
+        for (int i = 0; i < quantidadeLivres; i++) {
+            livres[i] = null;
+        }
+        quantidadeLivres = 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.application;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// União-busca (disjoint set) que pode ser usada por várias threads ao mesmo tempo.
+// Cada ligação é feita com compareAndSet sobre o pai de uma raiz, sempre ligando a raiz
+// de maior índice na de menor, o que impede ciclos mesmo com uniões simultâneas.
+// A busca faz compressão por "halving": cada nó visitado passa a apontar para o avô.
+class UniaoBuscaConcorrente {
+    private final AtomicIntegerArray pai;
+
+    public UniaoBuscaConcorrente(int n) {
+        pai = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            pai.set(i, i);
+        }
+    }
+
+    public int buscar(int x) {
+        while (true) {
+            int p = pai.get(x);
+            if (p == x) {
+                return x;
+            }
+            int avo = pai.get(p);
+            if (p != avo) {
+                pai.compareAndSet(x, p, avo);
+            }
+            x = p;
+        }
+    }
+
+    // Une os conjuntos de a e b; retorna false se já eram o mesmo conjunto
+    public boolean unir(int a, int b) {
+        while (true) {
+            a = buscar(a);
+            b = buscar(b);
+            if (a == b) {
+                return false;
+            }
+
+            if (a < b) {
+                int temp = a;
+                a = b;
+                b = temp;
+            }
+
+            // Só liga se a ainda for raiz; caso contrário outra thread o ligou antes
+            if (pai.compareAndSet(a, a, b)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean mesmoConjunto(int a, int b) {
+        while (true) {
+            int ra = buscar(a);
+            int rb = buscar(b);
+            if (ra == rb) {
+                return true;
+            }
+            // Se ra continua raiz, a resposta negativa é consistente
+            if (pai.get(ra) == ra) {
+                return false;
+            }
+        }
+    }
+}